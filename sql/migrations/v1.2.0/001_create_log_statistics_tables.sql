@@ -0,0 +1,69 @@
+/*
+================================================================================
+脚本名称: 001_create_log_statistics_tables.sql
+创建时间: 2026-10-18
+创建人员: 日志模块开发组
+变更描述: 新增日志统计汇总表（按小时/按天）及增量汇总水位表，统计查询改为读取汇总数据
+关联需求: LOG-STAT 日志统计预聚合
+影响范围: 新增 t_log_stat_hourly、t_log_stat_daily、t_log_stat_watermark 表
+执行环境: 开发/测试/生产
+预计耗时: 1分钟
+注意事项: 首次部署后由汇总任务按ID分批回填历史数据，无需手工初始化
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+-- ==============================================
+-- 开始数据库变更操作
+-- ==============================================
+
+-- 按小时汇总表
+CREATE TABLE IF NOT EXISTS `t_log_stat_hourly` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+  `stat_time` datetime NOT NULL COMMENT '统计小时（整点）',
+  `log_type` varchar(10) NOT NULL COMMENT '日志类型：AUDIT,SYSTEM,LOGIN',
+  `status` tinyint(4) NOT NULL DEFAULT '-1' COMMENT '状态：0-失败，1-成功，-1-无',
+  `level` varchar(10) NOT NULL DEFAULT '' COMMENT '日志级别（系统日志）',
+  `module` varchar(50) NOT NULL DEFAULT '' COMMENT '操作模块（审计日志）',
+  `operation_type` varchar(50) NOT NULL DEFAULT '' COMMENT '操作类型（审计日志）',
+  `log_count` bigint(20) NOT NULL DEFAULT '0' COMMENT '日志数量',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_stat_dimension` (`stat_time`, `log_type`, `status`, `level`, `module`, `operation_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='日志按小时汇总表';
+
+-- 按天汇总表
+CREATE TABLE IF NOT EXISTS `t_log_stat_daily` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+  `stat_time` date NOT NULL COMMENT '统计日期',
+  `log_type` varchar(10) NOT NULL COMMENT '日志类型：AUDIT,SYSTEM,LOGIN',
+  `status` tinyint(4) NOT NULL DEFAULT '-1' COMMENT '状态：0-失败，1-成功，-1-无',
+  `level` varchar(10) NOT NULL DEFAULT '' COMMENT '日志级别（系统日志）',
+  `module` varchar(50) NOT NULL DEFAULT '' COMMENT '操作模块（审计日志）',
+  `operation_type` varchar(50) NOT NULL DEFAULT '' COMMENT '操作类型（审计日志）',
+  `log_count` bigint(20) NOT NULL DEFAULT '0' COMMENT '日志数量',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_stat_dimension` (`stat_time`, `log_type`, `status`, `level`, `module`, `operation_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='日志按天汇总表';
+
+-- 增量汇总水位表
+CREATE TABLE IF NOT EXISTS `t_log_stat_watermark` (
+  `log_type` varchar(10) NOT NULL COMMENT '日志类型：AUDIT,SYSTEM,LOGIN',
+  `last_id` bigint(20) NOT NULL DEFAULT '0' COMMENT '已汇总的最大日志ID',
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`log_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='日志统计汇总水位表';
+
+-- 初始化水位
+INSERT IGNORE INTO `t_log_stat_watermark` (`log_type`, `last_id`) VALUES
+('AUDIT', 0),
+('SYSTEM', 0),
+('LOGIN', 0);
+
+-- ==============================================
+-- 验证变更结果
+-- ==============================================
+SELECT TABLE_NAME, TABLE_COMMENT FROM INFORMATION_SCHEMA.TABLES
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE 't_log_stat_%';
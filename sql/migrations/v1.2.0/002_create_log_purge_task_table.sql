@@ -0,0 +1,39 @@
+/*
+================================================================================
+脚本名称: 002_create_log_purge_task_table.sql
+创建时间: 2026-10-18
+创建人员: 日志模块开发组
+变更描述: 新增日志分块清理进度表，清理任务按主键分块删除并记录进度，节点重启后可继续执行
+关联需求: LOG-PURGE 日志分块清理
+影响范围: 新增 t_log_purge_task 表
+执行环境: 开发/测试/生产
+预计耗时: 1分钟
+注意事项: 无
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+-- ==============================================
+-- 开始数据库变更操作
+-- ==============================================
+
+CREATE TABLE IF NOT EXISTS `t_log_purge_task` (
+  `log_type` varchar(10) NOT NULL COMMENT '日志类型：AUDIT,SYSTEM,LOGIN',
+  `cutoff_time` datetime NOT NULL COMMENT '清理截止时间，早于该时间的日志将被删除',
+  `last_time` datetime DEFAULT NULL COMMENT '已清理到的日志时间',
+  `last_id` bigint(20) DEFAULT NULL COMMENT '已清理到的日志ID',
+  `deleted_count` bigint(20) NOT NULL DEFAULT '0' COMMENT '本轮已删除数量',
+  `status` varchar(20) NOT NULL COMMENT '状态：RUNNING-执行中，COMPLETED-已完成',
+  `start_time` datetime NOT NULL COMMENT '本轮开始时间',
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`log_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='日志清理进度表';
+
+-- ==============================================
+-- 验证变更结果
+-- ==============================================
+SELECT TABLE_NAME, TABLE_COMMENT FROM INFORMATION_SCHEMA.TABLES
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 't_log_purge_task';
@@ -0,0 +1,104 @@
+/*
+================================================================================
+脚本名称: 003_partition_log_tables.sql
+创建时间: 2026-10-18
+创建人员: 日志模块开发组
+变更描述: 日志表按时间RANGE分区，过期数据通过删除整个分区清理，不再逐行删除
+关联需求: LOG-PARTITION 日志表时间分区
+影响范围: t_audit_log、t_system_log、t_login_log 表结构（主键调整为(id, 时间)并分区）
+执行环境: 开发/测试/生产
+预计耗时: 视日志数据量而定，重建表期间日志表会被锁定
+注意事项: 1. 执行前请备份日志表数据，建议在业务低峰期执行
+          2. 初始分区为 p_history（本月之前的全部数据）和 p_future（MAXVALUE），
+             执行后开启 biou.log.partition.enabled，由分区维护任务按天或按月拆分 p_future 预建分区
+          3. 分区表的唯一键必须包含分区字段，因此主键调整为 (id, create_time)/(id, login_time)
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+-- 分区边界：本月1日，之前的数据全部归入 p_history
+SET @history_bound = TO_DAYS(DATE_FORMAT(CURDATE(), '%Y-%m-01'));
+
+-- ==============================================
+-- 开始数据库变更操作
+-- ==============================================
+
+-- 审计日志表分区
+SET @partitioned = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_audit_log'
+    AND PARTITION_NAME IS NOT NULL
+);
+
+SET @sql = CASE
+    WHEN @partitioned = 0 THEN
+        CONCAT('ALTER TABLE `t_audit_log` DROP PRIMARY KEY, ADD PRIMARY KEY (`id`, `create_time`) ',
+               'PARTITION BY RANGE (TO_DAYS(`create_time`)) (',
+               'PARTITION p_history VALUES LESS THAN (', @history_bound, '), ',
+               'PARTITION p_future VALUES LESS THAN MAXVALUE)')
+    ELSE
+        'SELECT ''Table t_audit_log already partitioned'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 系统日志表分区
+SET @partitioned = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_system_log'
+    AND PARTITION_NAME IS NOT NULL
+);
+
+SET @sql = CASE
+    WHEN @partitioned = 0 THEN
+        CONCAT('ALTER TABLE `t_system_log` DROP PRIMARY KEY, ADD PRIMARY KEY (`id`, `create_time`) ',
+               'PARTITION BY RANGE (TO_DAYS(`create_time`)) (',
+               'PARTITION p_history VALUES LESS THAN (', @history_bound, '), ',
+               'PARTITION p_future VALUES LESS THAN MAXVALUE)')
+    ELSE
+        'SELECT ''Table t_system_log already partitioned'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 登录日志表分区
+SET @partitioned = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_login_log'
+    AND PARTITION_NAME IS NOT NULL
+);
+
+SET @sql = CASE
+    WHEN @partitioned = 0 THEN
+        CONCAT('ALTER TABLE `t_login_log` DROP PRIMARY KEY, ADD PRIMARY KEY (`id`, `login_time`) ',
+               'PARTITION BY RANGE (TO_DAYS(`login_time`)) (',
+               'PARTITION p_history VALUES LESS THAN (', @history_bound, '), ',
+               'PARTITION p_future VALUES LESS THAN MAXVALUE)')
+    ELSE
+        'SELECT ''Table t_login_log already partitioned'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- ==============================================
+-- 验证变更结果
+-- ==============================================
+SELECT TABLE_NAME, PARTITION_NAME, PARTITION_METHOD, PARTITION_EXPRESSION, PARTITION_DESCRIPTION
+FROM INFORMATION_SCHEMA.PARTITIONS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('t_audit_log', 't_system_log', 't_login_log')
+ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION;
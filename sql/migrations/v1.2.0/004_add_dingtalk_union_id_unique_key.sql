@@ -0,0 +1,105 @@
+/*
+================================================================================
+脚本名称: 004_add_dingtalk_union_id_unique_key.sql
+创建时间: 2026-10-18
+创建人员: 认证功能开发组
+变更描述: 钉钉用户唯一标识改为唯一索引，防止同一钉钉用户并发首次登录时创建多个账号
+关联需求: AUTH-002 钉钉首次登录并发建号
+影响范围: t_user表索引，idx_dingtalk_union_id 替换为 uk_dingtalk_union_id
+执行环境: 开发/测试/生产
+预计耗时: 2分钟
+注意事项: 已删除用户的钉钉绑定会被清除（原值备份到 t_user_dingtalk_backup_v120）；
+         未删除用户中存在重复绑定时不创建唯一索引，需按查询结果人工合并账号后重新执行
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+-- ==============================================
+-- 开始数据库变更操作
+-- ==============================================
+
+-- 备份已删除用户的钉钉绑定（用于回滚）
+CREATE TABLE IF NOT EXISTS `t_user_dingtalk_backup_v120` AS
+SELECT `id`, `dingtalk_union_id`, NOW() as backup_time
+FROM `t_user`
+WHERE `deleted` = 1 AND `dingtalk_union_id` IS NOT NULL;
+
+-- 唯一索引包含已删除用户，解除已删除用户的钉钉绑定，该钉钉用户再次登录时创建新账号
+UPDATE `t_user`
+SET `dingtalk_union_id` = NULL
+WHERE `deleted` = 1 AND `dingtalk_union_id` IS NOT NULL;
+
+-- 列出未删除用户中重复绑定的钉钉用户
+SELECT `dingtalk_union_id`, COUNT(*) as user_count, GROUP_CONCAT(`id` ORDER BY `id`) as user_ids
+FROM `t_user`
+WHERE `dingtalk_union_id` IS NOT NULL
+GROUP BY `dingtalk_union_id`
+HAVING COUNT(*) > 1;
+
+SET @duplicate_count = (
+    SELECT COUNT(*) FROM (
+        SELECT `dingtalk_union_id`
+        FROM `t_user`
+        WHERE `dingtalk_union_id` IS NOT NULL
+        GROUP BY `dingtalk_union_id`
+        HAVING COUNT(*) > 1
+    ) d
+);
+
+SET @index_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_user'
+    AND INDEX_NAME = 'uk_dingtalk_union_id'
+);
+
+-- 条件添加唯一索引
+SET @sql = CASE
+    WHEN @index_exists > 0 THEN
+        'SELECT ''Index uk_dingtalk_union_id already exists'' as message'
+    WHEN @duplicate_count > 0 THEN
+        'SELECT ''Duplicate dingtalk_union_id found, merge the accounts listed above and run again'' as message'
+    ELSE
+        'CREATE UNIQUE INDEX `uk_dingtalk_union_id` ON `t_user` (`dingtalk_union_id`)'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 唯一索引创建成功后删除原普通索引
+SET @unique_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_user'
+    AND INDEX_NAME = 'uk_dingtalk_union_id'
+);
+
+SET @index_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_user'
+    AND INDEX_NAME = 'idx_dingtalk_union_id'
+);
+
+SET @sql = CASE
+    WHEN @unique_exists > 0 AND @index_exists > 0 THEN
+        'DROP INDEX `idx_dingtalk_union_id` ON `t_user`'
+    ELSE
+        'SELECT ''Index idx_dingtalk_union_id kept'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- ==============================================
+-- 验证变更结果
+-- ==============================================
+SHOW INDEX FROM `t_user` WHERE Key_name IN ('uk_dingtalk_union_id', 'idx_dingtalk_union_id');
@@ -0,0 +1,21 @@
+/*
+================================================================================
+回滚脚本: rollback_v1.2.0_001_create_log_statistics_tables.sql
+创建时间: 2026-10-18
+创建人员: 日志模块开发组
+回滚版本: v1.2.0/001_create_log_statistics_tables.sql
+回滚原因: 回滚日志统计预聚合，统计查询恢复为直接统计日志表
+影响范围: 删除 t_log_stat_hourly、t_log_stat_daily、t_log_stat_watermark 表
+执行环境: 开发/测试/生产
+预计耗时: 1分钟
+注意事项: 汇总数据可由原始日志重新生成，删除后不影响日志明细
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+DROP TABLE IF EXISTS `t_log_stat_watermark`;
+DROP TABLE IF EXISTS `t_log_stat_daily`;
+DROP TABLE IF EXISTS `t_log_stat_hourly`;
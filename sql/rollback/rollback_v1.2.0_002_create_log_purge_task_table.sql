@@ -0,0 +1,19 @@
+/*
+================================================================================
+回滚脚本: rollback_v1.2.0_002_create_log_purge_task_table.sql
+创建时间: 2026-10-18
+创建人员: 日志模块开发组
+回滚版本: v1.2.0/002_create_log_purge_task_table.sql
+回滚原因: 回滚日志分块清理进度记录
+影响范围: 删除 t_log_purge_task 表
+执行环境: 开发/测试/生产
+预计耗时: 1分钟
+注意事项: 删除后未完成的清理任务将从头开始
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+DROP TABLE IF EXISTS `t_log_purge_task`;
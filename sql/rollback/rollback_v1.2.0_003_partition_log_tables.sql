@@ -0,0 +1,110 @@
+/*
+================================================================================
+回滚脚本: rollback_v1.2.0_003_partition_log_tables.sql
+创建时间: 2026-10-18
+创建人员: 日志模块开发组
+回滚版本: v1.2.0/003_partition_log_tables.sql
+回滚原因: 回滚日志表时间分区
+影响范围: t_audit_log、t_system_log、t_login_log 表结构
+执行环境: 开发/测试/生产
+预计耗时: 视日志数据量而定，重建表期间日志表会被锁定
+注意事项: 回滚前请先关闭 biou.log.partition.enabled，数据会合并回单表保留
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+-- 审计日志表取消分区
+SET @partitioned = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_audit_log'
+    AND PARTITION_NAME IS NOT NULL
+);
+
+SET @sql = CASE
+    WHEN @partitioned > 0 THEN
+        'ALTER TABLE `t_audit_log` REMOVE PARTITIONING'
+    ELSE
+        'SELECT ''Table t_audit_log is not partitioned'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = CASE
+    WHEN @partitioned > 0 THEN
+        'ALTER TABLE `t_audit_log` DROP PRIMARY KEY, ADD PRIMARY KEY (`id`)'
+    ELSE
+        'SELECT ''Primary key of t_audit_log unchanged'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 系统日志表取消分区
+SET @partitioned = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_system_log'
+    AND PARTITION_NAME IS NOT NULL
+);
+
+SET @sql = CASE
+    WHEN @partitioned > 0 THEN
+        'ALTER TABLE `t_system_log` REMOVE PARTITIONING'
+    ELSE
+        'SELECT ''Table t_system_log is not partitioned'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = CASE
+    WHEN @partitioned > 0 THEN
+        'ALTER TABLE `t_system_log` DROP PRIMARY KEY, ADD PRIMARY KEY (`id`)'
+    ELSE
+        'SELECT ''Primary key of t_system_log unchanged'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 登录日志表取消分区
+SET @partitioned = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_login_log'
+    AND PARTITION_NAME IS NOT NULL
+);
+
+SET @sql = CASE
+    WHEN @partitioned > 0 THEN
+        'ALTER TABLE `t_login_log` REMOVE PARTITIONING'
+    ELSE
+        'SELECT ''Table t_login_log is not partitioned'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql = CASE
+    WHEN @partitioned > 0 THEN
+        'ALTER TABLE `t_login_log` DROP PRIMARY KEY, ADD PRIMARY KEY (`id`)'
+    ELSE
+        'SELECT ''Primary key of t_login_log unchanged'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
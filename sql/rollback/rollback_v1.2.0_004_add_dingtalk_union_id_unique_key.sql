@@ -0,0 +1,52 @@
+/*
+================================================================================
+回滚脚本: rollback_v1.2.0_004_add_dingtalk_union_id_unique_key.sql
+创建时间: 2026-10-18
+创建人员: 认证功能开发组
+回滚版本: v1.2.0/004_add_dingtalk_union_id_unique_key.sql
+回滚原因: 恢复钉钉用户唯一标识的普通索引
+影响范围: t_user表索引，uk_dingtalk_union_id 替换为 idx_dingtalk_union_id
+执行环境: 开发/测试/生产
+预计耗时: 2分钟
+注意事项: 回滚后需同时回退应用版本，否则同一钉钉用户并发首次登录可能创建多个账号
+================================================================================
+*/
+
+-- 检查数据库环境
+USE `biou_db`;
+SELECT DATABASE() as current_database;
+
+-- 恢复普通索引
+SET @index_exists = (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 't_user'
+    AND INDEX_NAME = 'idx_dingtalk_union_id'
+);
+
+SET @sql = CASE
+    WHEN @index_exists = 0 THEN
+        'CREATE INDEX `idx_dingtalk_union_id` ON `t_user` (`dingtalk_union_id`)'
+    ELSE
+        'SELECT ''Index idx_dingtalk_union_id already exists'' as message'
+END;
+
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 删除唯一索引
+DROP INDEX IF EXISTS `uk_dingtalk_union_id` ON `t_user`;
+
+-- 从备份恢复已删除用户的钉钉绑定（如果备份表存在）
+UPDATE `t_user` u
+INNER JOIN `t_user_dingtalk_backup_v120` b ON u.id = b.id
+SET u.dingtalk_union_id = b.dingtalk_union_id
+WHERE u.deleted = 1 AND u.dingtalk_union_id IS NULL;
+
+-- 删除备份表
+DROP TABLE IF EXISTS `t_user_dingtalk_backup_v120`;
+
+-- 验证回滚结果
+SHOW INDEX FROM `t_user` WHERE Key_name IN ('uk_dingtalk_union_id', 'idx_dingtalk_union_id');
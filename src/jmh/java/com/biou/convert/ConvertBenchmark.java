@@ -0,0 +1,217 @@
+package com.biou.convert;
+
+import com.biou.entity.AuditLog;
+import com.biou.entity.LoginLog;
+import com.biou.entity.SystemLog;
+import com.biou.project.convert.UserConvert;
+import com.biou.project.entity.User;
+import com.biou.project.vo.UserVO;
+import com.biou.vo.AuditLogVO;
+import com.biou.vo.LoginLogVO;
+import com.biou.vo.SystemLogVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象转换基准：BeanUtils.copyProperties与手写转换器
+ * 单条转换按平均耗时统计，整页转换按每秒可转换页数统计
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertBenchmark {
+
+    /**
+     * 每页行数
+     */
+    @Param({"10000"})
+    private int rows;
+
+    private AuditLog auditLog;
+
+    private User user;
+
+    private List<AuditLog> auditLogPage;
+
+    private List<SystemLog> systemLogPage;
+
+    private List<LoginLog> loginLogPage;
+
+    @Setup
+    public void setUp() {
+        auditLog = new AuditLog();
+        auditLog.setId(1L);
+        auditLog.setUserId(10001L);
+        auditLog.setUsername("admin");
+        auditLog.setOperationType("UPDATE");
+        auditLog.setBusinessType("USER");
+        auditLog.setModule("用户管理");
+        auditLog.setDescription("更新用户");
+        auditLog.setMethod("com.biou.project.controller.UserController.updateUser");
+        auditLog.setRequestUrl("/api/user/10001");
+        auditLog.setRequestMethod("PUT");
+        auditLog.setIpAddress("114.114.114.114");
+        auditLog.setStatus(1);
+        auditLog.setExecutionTime(12L);
+        auditLog.setCreateTime(LocalDateTime.of(2026, 10, 18, 8, 0));
+
+        user = new User();
+        user.setId(10001L);
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@biou.com");
+        user.setPhone("13800000000");
+        user.setStatus(1);
+        user.setCreateTime(LocalDateTime.of(2026, 1, 1, 8, 0));
+        user.setUpdateTime(LocalDateTime.of(2026, 10, 18, 8, 0));
+
+        auditLogPage = new ArrayList<>(rows);
+        systemLogPage = new ArrayList<>(rows);
+        loginLogPage = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            AuditLog audit = new AuditLog();
+            audit.setId((long) i);
+            audit.setUserId(auditLog.getUserId());
+            audit.setUsername(auditLog.getUsername());
+            audit.setOperationType(auditLog.getOperationType());
+            audit.setModule(auditLog.getModule());
+            audit.setRequestUrl(auditLog.getRequestUrl());
+            audit.setIpAddress(auditLog.getIpAddress());
+            audit.setStatus(1);
+            audit.setExecutionTime((long) (i % 200));
+            audit.setCreateTime(auditLog.getCreateTime().minusSeconds(i));
+            auditLogPage.add(audit);
+
+            SystemLog system = new SystemLog();
+            system.setId((long) i);
+            system.setTraceId("trace-" + i);
+            system.setLevel("INFO");
+            system.setLoggerName("com.biou.service.impl.LogServiceImpl");
+            system.setMessage("分页查询审计日志");
+            system.setThreadName("http-nio-8080-exec-1");
+            system.setClassName("com.biou.service.impl.LogServiceImpl");
+            system.setMethodName("pageAuditLog");
+            system.setLineNumber(150);
+            system.setCreateTime(auditLog.getCreateTime().minusSeconds(i));
+            systemLogPage.add(system);
+
+            LoginLog login = new LoginLog();
+            login.setId((long) i);
+            login.setUserId(10001L);
+            login.setUsername("benchmark");
+            login.setLoginType("PASSWORD");
+            login.setIpAddress("114.114.114.114");
+            login.setLocation("江苏省南京市");
+            login.setBrowser("Chrome");
+            login.setOs("Windows 10");
+            login.setStatus(1);
+            login.setMessage("登录成功");
+            login.setLoginTime(auditLog.getCreateTime().minusSeconds(i));
+            loginLogPage.add(login);
+        }
+    }
+
+    @Benchmark
+    public AuditLogVO auditLogBeanUtils() {
+        AuditLogVO vo = new AuditLogVO();
+        BeanUtils.copyProperties(auditLog, vo);
+        return vo;
+    }
+
+    @Benchmark
+    public AuditLogVO auditLogConvert() {
+        return LogConvert.toVO(auditLog);
+    }
+
+    @Benchmark
+    public UserVO userBeanUtils() {
+        UserVO vo = new UserVO();
+        BeanUtils.copyProperties(user, vo);
+        return vo;
+    }
+
+    @Benchmark
+    public UserVO userConvert() {
+        return UserConvert.entityToVO(user);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<AuditLogVO> auditLogPageBeanUtils() {
+        List<AuditLogVO> result = new ArrayList<>(auditLogPage.size());
+        for (AuditLog log : auditLogPage) {
+            AuditLogVO vo = new AuditLogVO();
+            BeanUtils.copyProperties(log, vo);
+            result.add(vo);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<AuditLogVO> auditLogPageConvert() {
+        return LogConvert.toVOList(auditLogPage);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<SystemLogVO> systemLogPageBeanUtils() {
+        List<SystemLogVO> result = new ArrayList<>(systemLogPage.size());
+        for (SystemLog log : systemLogPage) {
+            SystemLogVO vo = new SystemLogVO();
+            BeanUtils.copyProperties(log, vo);
+            result.add(vo);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<SystemLogVO> systemLogPageConvert() {
+        return LogConvert.toSystemLogVOList(systemLogPage);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<LoginLogVO> loginLogPageBeanUtils() {
+        List<LoginLogVO> result = new ArrayList<>(loginLogPage.size());
+        for (LoginLog log : loginLogPage) {
+            LoginLogVO vo = new LoginLogVO();
+            BeanUtils.copyProperties(log, vo);
+            result.add(vo);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<LoginLogVO> loginLogPageConvert() {
+        return LogConvert.toLoginLogVOList(loginLogPage);
+    }
+}
@@ -0,0 +1,92 @@
+package com.biou.project.config;
+
+import com.biou.project.cache.TypedBinaryRedisCodec;
+import com.biou.project.vo.UserVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis值序列化往返基准：FastJson2JsonRedisSerializer与TypedBinaryRedisCodec
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    private RedisConfig.FastJson2JsonRedisSerializer<Object> jsonSerializer;
+
+    private TypedBinaryRedisCodec binaryCodec;
+
+    private UserVO user;
+
+    private byte[] jsonBytes;
+
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new RedisConfig.FastJson2JsonRedisSerializer<>(Object.class);
+        binaryCodec = new TypedBinaryRedisCodec(jsonSerializer, 1024);
+        binaryCodec.register(1, UserVO.class, 1);
+
+        user = new UserVO();
+        user.setId(10001L);
+        user.setUsername("benchmark");
+        user.setEmail("benchmark@biou.com");
+        user.setPhone("13800000000");
+        user.setStatus(1);
+        user.setStatusDesc("正常");
+        user.setCreateTime(LocalDateTime.of(2026, 1, 1, 8, 0));
+        user.setUpdateTime(LocalDateTime.of(2026, 10, 18, 8, 0));
+
+        jsonBytes = jsonSerializer.serialize(user);
+        binaryBytes = binaryCodec.serialize(user);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(user);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object jsonRoundTrip() {
+        return jsonSerializer.deserialize(jsonSerializer.serialize(user));
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binaryCodec.serialize(user);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binaryCodec.deserialize(binaryBytes);
+    }
+
+    @Benchmark
+    public Object binaryRoundTrip() {
+        return binaryCodec.deserialize(binaryCodec.serialize(user));
+    }
+}
@@ -0,0 +1,80 @@
+package com.biou.project.convert;
+
+import com.biou.project.entity.Permission;
+import com.biou.project.security.PermissionTree;
+import com.biou.project.vo.PermissionVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 权限树构建基准，每个节点最多8个子节点
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionTreeBenchmark {
+
+    private static final int FAN_OUT = 8;
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private PermissionConvert permissionConvert;
+
+    private List<Permission> permissions;
+
+    @Setup
+    public void setUp() {
+        permissionConvert = new PermissionConvert();
+        permissions = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.of(2026, 10, 18, 8, 0);
+        for (int i = 1; i <= size; i++) {
+            Permission permission = new Permission();
+            permission.setId((long) i);
+            permission.setParentId(i == 1 ? 0L : (long) ((i - 2) / FAN_OUT + 1));
+            permission.setPermissionCode("PERM:" + i);
+            permission.setPermissionName("权限" + i);
+            permission.setResourceType(i % 3 == 0 ? "api" : "menu");
+            permission.setResourcePath("/api/perm/" + i);
+            permission.setSortOrder(i);
+            permission.setStatus(1);
+            permission.setCreateTime(now);
+            permission.setUpdateTime(now);
+            permission.setDeleted(0);
+            permissions.add(permission);
+        }
+    }
+
+    @Benchmark
+    public List<PermissionVO> buildPermissionTree() {
+        return permissionConvert.buildPermissionTree(permissions);
+    }
+
+    /**
+     * 构建树并预计算祖先、后代集合
+     */
+    @Benchmark
+    public PermissionTree buildPermissionTreeSnapshot() {
+        return PermissionTree.of(1L, permissionConvert.buildPermissionTree(permissions));
+    }
+}
@@ -0,0 +1,74 @@
+package com.biou.project.service.impl;
+
+import com.biou.project.util.JwtBlacklist;
+import com.biou.project.util.JwtUtils;
+import com.biou.project.util.JwtUtilsBenchmark;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthServiceImpl.validateToken基准，Redis以桩对象代替
+ * 正常token只经过声明缓存和布隆过滤器；已注销token在过滤器命中后还需查询Redis
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthServiceBenchmark {
+
+    private AuthServiceImpl authService;
+
+    private String validToken;
+
+    private String revokedToken;
+
+    @Setup
+    public void setUp() {
+        JwtUtils jwtUtils = JwtUtilsBenchmark.createJwtUtils();
+        validToken = jwtUtils.generateAccessToken(10001L, "benchmark");
+        revokedToken = jwtUtils.generateAccessToken(10002L, "revoked");
+
+        StringRedisTemplate stringRedisTemplate = Mockito.mock(StringRedisTemplate.class);
+        Mockito.when(stringRedisTemplate.hasKey(Mockito.anyString())).thenReturn(Boolean.TRUE);
+        JwtBlacklist jwtBlacklist = new JwtBlacklist();
+        ReflectionTestUtils.setField(jwtBlacklist, "stringRedisTemplate", stringRedisTemplate);
+        ReflectionTestUtils.setField(jwtBlacklist, "redisMessageListenerContainer",
+                Mockito.mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(jwtBlacklist, "expectedInsertions", 100000L);
+        jwtBlacklist.init();
+        ReflectionTestUtils.invokeMethod(jwtBlacklist, "addLocal", jwtUtils.parseToken(revokedToken).getTokenId());
+
+        authService = new AuthServiceImpl();
+        ReflectionTestUtils.setField(authService, "jwtUtils", jwtUtils);
+        ReflectionTestUtils.setField(authService, "jwtBlacklist", jwtBlacklist);
+    }
+
+    @Benchmark
+    public boolean validateValidToken() {
+        return authService.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateRevokedToken() {
+        return authService.validateToken(revokedToken);
+    }
+}
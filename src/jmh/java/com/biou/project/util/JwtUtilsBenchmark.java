@@ -0,0 +1,85 @@
+package com.biou.project.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtils生成、验证和解析token的基准
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private JwtUtils jwtUtils;
+
+    private String token;
+
+    private Method getClaimsFromToken;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        jwtUtils = createJwtUtils();
+        token = jwtUtils.generateAccessToken(10001L, "benchmark");
+        getClaimsFromToken = JwtUtils.class.getDeclaredMethod("getClaimsFromToken", String.class);
+        getClaimsFromToken.setAccessible(true);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtils.generateAccessToken(10001L, "benchmark");
+    }
+
+    /**
+     * 声明缓存命中
+     */
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.validateToken(token);
+    }
+
+    /**
+     * 声明缓存命中
+     */
+    @Benchmark
+    public Object parseToken() {
+        return jwtUtils.parseToken(token);
+    }
+
+    /**
+     * 绕过声明缓存，每次验签并解析
+     */
+    @Benchmark
+    public Object parseTokenUncached() throws ReflectiveOperationException {
+        return getClaimsFromToken.invoke(jwtUtils, token);
+    }
+
+    public static JwtUtils createJwtUtils() {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "secret", "biou-project-benchmark-secret-key-for-jwt-token");
+        ReflectionTestUtils.setField(jwtUtils, "expiration", 86400L);
+        ReflectionTestUtils.setField(jwtUtils, "refreshExpiration", 604800L);
+        ReflectionTestUtils.setField(jwtUtils, "claimsCacheMaxSize", 10000L);
+        ReflectionTestUtils.setField(jwtUtils, "claimsCacheTtlSeconds", 300L);
+        jwtUtils.init();
+        return jwtUtils;
+    }
+}
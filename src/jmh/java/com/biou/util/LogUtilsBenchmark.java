@@ -0,0 +1,64 @@
+package com.biou.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogUtils提取IP和解析User-Agent的基准
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogUtilsBenchmark {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest();
+        request.addHeader("x-forwarded-for", "114.114.114.114, 10.0.0.1");
+        request.addHeader("User-Agent", USER_AGENT);
+        request.setRemoteAddr("10.0.0.1");
+    }
+
+    @Benchmark
+    public String getIpAddress() {
+        return LogUtils.getIpAddress(request);
+    }
+
+    /**
+     * 解析缓存命中
+     */
+    @Benchmark
+    public UserAgentInfo parseUserAgent() {
+        return LogUtils.parseUserAgent(request);
+    }
+
+    /**
+     * 不经过缓存直接解析
+     */
+    @Benchmark
+    public UserAgentInfo parseUserAgentUncached() {
+        return UserAgentInfo.parse(USER_AGENT);
+    }
+}
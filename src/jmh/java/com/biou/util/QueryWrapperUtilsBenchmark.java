@@ -0,0 +1,73 @@
+package com.biou.util;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.biou.dto.AuditLogQueryDTO;
+import com.biou.entity.AuditLog;
+import com.biou.project.dto.UserQueryDTO;
+import com.biou.project.entity.User;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryWrapperUtils构造查询条件并生成SQL片段的基准
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryWrapperUtilsBenchmark {
+
+    private UserQueryDTO userQuery;
+
+    private AuditLogQueryDTO auditLogQuery;
+
+    @Setup
+    public void setUp() {
+        // Lambda条件解析列名依赖表信息，应用中由MyBatis-Plus启动时初始化
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(new MybatisConfiguration(), "");
+        TableInfoHelper.initTableInfo(assistant, User.class);
+        TableInfoHelper.initTableInfo(assistant, AuditLog.class);
+
+        userQuery = new UserQueryDTO();
+        userQuery.setUsername("benchmark");
+        userQuery.setStatus(1);
+        userQuery.setCreateTimeStart(LocalDateTime.of(2026, 1, 1, 0, 0));
+        userQuery.setCreateTimeEnd(LocalDateTime.of(2026, 10, 18, 0, 0));
+
+        auditLogQuery = new AuditLogQueryDTO();
+        auditLogQuery.setUsername("admin");
+        auditLogQuery.setOperationType("UPDATE");
+        auditLogQuery.setModule("用户管理");
+        auditLogQuery.setStatus(1);
+        auditLogQuery.setStartTime(LocalDateTime.of(2026, 10, 1, 0, 0));
+        auditLogQuery.setEndTime(LocalDateTime.of(2026, 10, 18, 0, 0));
+    }
+
+    @Benchmark
+    public String buildUserQueryWrapper() {
+        return QueryWrapperUtils.buildUserQueryWrapper(userQuery).getCustomSqlSegment();
+    }
+
+    @Benchmark
+    public String buildAuditLogQueryWrapper() {
+        return QueryWrapperUtils.buildAuditLogQueryWrapper(auditLogQuery).getCustomSqlSegment();
+    }
+}
@@ -49,6 +49,15 @@ public class LogConstants {
         public static final String ERROR = "ERROR";
     }
 
+    /**
+     * 统计日志类型
+     */
+    public static class LogType {
+        public static final String AUDIT = "AUDIT";
+        public static final String SYSTEM = "SYSTEM";
+        public static final String LOGIN = "LOGIN";
+    }
+
     /**
      * 状态
      */
@@ -56,4 +65,9 @@ public class LogConstants {
         public static final int FAIL = 0;
         public static final int SUCCESS = 1;
     }
+
+    /**
+     * 游标分页单页最大条数
+     */
+    public static final long MAX_CURSOR_PAGE_SIZE = 1000L;
 } 
\ No newline at end of file
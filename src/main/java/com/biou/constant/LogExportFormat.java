@@ -0,0 +1,49 @@
+package com.biou.constant;
+
+/**
+ * 日志导出格式
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public enum LogExportFormat {
+
+    /**
+     * 每行一个JSON对象
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * 逗号分隔值
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+
+    private final String extension;
+
+    LogExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 根据名称解析导出格式，忽略大小写，无法识别时返回null
+     */
+    public static LogExportFormat of(String name) {
+        for (LogExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
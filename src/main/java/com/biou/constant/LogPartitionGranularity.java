@@ -0,0 +1,52 @@
+package com.biou.constant;
+
+import java.time.LocalDate;
+
+/**
+ * 日志表分区粒度
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public enum LogPartitionGranularity {
+
+    /**
+     * 按天分区
+     */
+    DAY {
+        @Override
+        public LocalDate floor(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate date) {
+            return date.plusDays(1);
+        }
+    },
+
+    /**
+     * 按月分区
+     */
+    MONTH {
+        @Override
+        public LocalDate floor(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate next(LocalDate date) {
+            return date.withDayOfMonth(1).plusMonths(1);
+        }
+    };
+
+    /**
+     * 日期所在分区的起始日期
+     */
+    public abstract LocalDate floor(LocalDate date);
+
+    /**
+     * 日期所在分区的结束日期（不含），即下一个分区的起始日期
+     */
+    public abstract LocalDate next(LocalDate date);
+}
@@ -1,24 +1,34 @@
 package com.biou.controller;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.biou.constant.LogExportFormat;
 import com.biou.dto.AuditLogQueryDTO;
 import com.biou.dto.LoginLogQueryDTO;
 import com.biou.dto.SystemLogQueryDTO;
+import com.biou.project.exception.BusinessException;
 import com.biou.project.vo.Result;
+import com.biou.service.LogPurgeService;
 import com.biou.service.LogService;
 import com.biou.vo.AuditLogVO;
+import com.biou.vo.CursorPageVO;
+import com.biou.vo.LogPurgeProgressVO;
 import com.biou.vo.LoginLogVO;
 import com.biou.vo.SystemLogVO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 日志管理控制器
@@ -31,9 +41,14 @@ import java.util.Map;
 @Validated
 public class LogController {
 
+    private static final DateTimeFormatter EXPORT_FILE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
     @Autowired
     private LogService logService;
 
+    @Autowired
+    private LogPurgeService logPurgeService;
+
     /**
      * 分页查询审计日志
      *
@@ -71,17 +86,63 @@ public class LogController {
     }
 
     /**
-     * 清理过期日志
+     * 游标分页查询审计日志，适用于深度翻页
+     *
+     * @param queryDTO 查询条件，cursor为上一页返回的nextCursor
+     * @return 游标分页结果
+     */
+    @PostMapping("/audit/cursor")
+    public Result<CursorPageVO<AuditLogVO>> cursorAuditLog(@Valid @RequestBody AuditLogQueryDTO queryDTO) {
+        CursorPageVO<AuditLogVO> result = logService.cursorAuditLog(queryDTO);
+        return Result.success(result);
+    }
+
+    /**
+     * 游标分页查询系统日志，适用于深度翻页
+     *
+     * @param queryDTO 查询条件，cursor为上一页返回的nextCursor
+     * @return 游标分页结果
+     */
+    @PostMapping("/system/cursor")
+    public Result<CursorPageVO<SystemLogVO>> cursorSystemLog(@Valid @RequestBody SystemLogQueryDTO queryDTO) {
+        CursorPageVO<SystemLogVO> result = logService.cursorSystemLog(queryDTO);
+        return Result.success(result);
+    }
+
+    /**
+     * 游标分页查询登录日志，适用于深度翻页
+     *
+     * @param queryDTO 查询条件，cursor为上一页返回的nextCursor
+     * @return 游标分页结果
+     */
+    @PostMapping("/login/cursor")
+    public Result<CursorPageVO<LoginLogVO>> cursorLoginLog(@Valid @RequestBody LoginLogQueryDTO queryDTO) {
+        CursorPageVO<LoginLogVO> result = logService.cursorLoginLog(queryDTO);
+        return Result.success(result);
+    }
+
+    /**
+     * 清理过期日志，后台执行，通过 /purge/progress 查询进度
      *
      * @param retentionDays 保留天数
-     * @return 清理结果
+     * @return 清理进度
      */
     @DeleteMapping("/clean")
-    public Result<Map<String, Long>> cleanExpiredLogs(
+    public Result<LogPurgeProgressVO> cleanExpiredLogs(
             @RequestParam @Min(value = 1, message = "保留天数不能少于1天") 
             @Max(value = 3650, message = "保留天数不能超过10年") Integer retentionDays) {
-        Map<String, Long> result = logService.cleanExpiredLogs(retentionDays);
-        return Result.success(result);
+        LogPurgeProgressVO progress = logService.cleanAllLogs(retentionDays);
+        return Result.success(progress);
+    }
+
+    /**
+     * 获取日志清理进度
+     *
+     * @return 清理进度
+     */
+    @GetMapping("/purge/progress")
+    public Result<LogPurgeProgressVO> getPurgeProgress() {
+        return Result.success(logPurgeService.getProgress());
     }
 
     /**
@@ -135,26 +196,105 @@ public class LogController {
     }
 
     /**
-     * 清理审计日志
+     * 流式导出审计日志
+     *
+     * @param queryDTO 查询条件
+     * @param format   导出格式：ndjson、csv
+     * @param gzip     是否gzip压缩
+     * @param response 响应
+     */
+    @PostMapping("/audit/export")
+    public void exportAuditLogs(@RequestBody AuditLogQueryDTO queryDTO,
+                                @RequestParam(defaultValue = "ndjson") String format,
+                                @RequestParam(defaultValue = "false") boolean gzip,
+                                HttpServletResponse response) throws IOException {
+        LogExportFormat exportFormat = resolveExportFormat(format);
+        try (OutputStream outputStream = openExportStream(response, "audit-log", exportFormat, gzip)) {
+            logService.exportAuditLogs(queryDTO, exportFormat, outputStream);
+        }
+    }
+
+    /**
+     * 流式导出系统日志
+     *
+     * @param queryDTO 查询条件
+     * @param format   导出格式：ndjson、csv
+     * @param gzip     是否gzip压缩
+     * @param response 响应
+     */
+    @PostMapping("/system/export")
+    public void exportSystemLogs(@RequestBody SystemLogQueryDTO queryDTO,
+                                 @RequestParam(defaultValue = "ndjson") String format,
+                                 @RequestParam(defaultValue = "false") boolean gzip,
+                                 HttpServletResponse response) throws IOException {
+        LogExportFormat exportFormat = resolveExportFormat(format);
+        try (OutputStream outputStream = openExportStream(response, "system-log", exportFormat, gzip)) {
+            logService.exportSystemLogs(queryDTO, exportFormat, outputStream);
+        }
+    }
+
+    /**
+     * 流式导出登录日志
+     *
+     * @param queryDTO 查询条件
+     * @param format   导出格式：ndjson、csv
+     * @param gzip     是否gzip压缩
+     * @param response 响应
+     */
+    @PostMapping("/login/export")
+    public void exportLoginLogs(@RequestBody LoginLogQueryDTO queryDTO,
+                                @RequestParam(defaultValue = "ndjson") String format,
+                                @RequestParam(defaultValue = "false") boolean gzip,
+                                HttpServletResponse response) throws IOException {
+        LogExportFormat exportFormat = resolveExportFormat(format);
+        try (OutputStream outputStream = openExportStream(response, "login-log", exportFormat, gzip)) {
+            logService.exportLoginLogs(queryDTO, exportFormat, outputStream);
+        }
+    }
+
+    /**
+     * 清理审计日志，后台执行，通过 /purge/progress 查询进度
      *
      * @param days 保留天数
-     * @return 清理结果
+     * @return 清理进度
      */
     @DeleteMapping("/audit/clean/{days}")
-    public Result<Integer> cleanAuditLogs(@PathVariable Integer days) {
-        int count = logService.cleanAuditLogs(days);
-        return Result.success(count);
+    public Result<LogPurgeProgressVO> cleanAuditLogs(@PathVariable Integer days) {
+        LogPurgeProgressVO progress = logService.cleanAuditLogs(days);
+        return Result.success(progress);
     }
 
     /**
-     * 清理所有类型的日志
+     * 清理所有类型的日志，后台执行，通过 /purge/progress 查询进度
      *
      * @param days 保留天数
-     * @return 清理结果
+     * @return 清理进度
      */
     @DeleteMapping("/clean/{days}")
-    public Result<Integer> cleanAllLogs(@PathVariable Integer days) {
-        int count = logService.cleanAllLogs(days);
-        return Result.success(count);
+    public Result<LogPurgeProgressVO> cleanAllLogs(@PathVariable Integer days) {
+        LogPurgeProgressVO progress = logService.cleanAllLogs(days);
+        return Result.success(progress);
+    }
+
+    private LogExportFormat resolveExportFormat(String format) {
+        LogExportFormat exportFormat = LogExportFormat.of(format);
+        if (exportFormat == null) {
+            throw new BusinessException(400, "不支持的导出格式：" + format);
+        }
+        return exportFormat;
+    }
+
+    /**
+     * 设置下载响应头并返回输出流，gzip时以.gz文件下载
+     */
+    private OutputStream openExportStream(HttpServletResponse response, String filePrefix,
+                                          LogExportFormat format, boolean gzip) throws IOException {
+        String fileName = filePrefix + "-" + LocalDateTime.now().format(EXPORT_FILE_TIME_FORMATTER)
+                + "." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=" + fileName);
+        OutputStream outputStream = response.getOutputStream();
+        return gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
     }
-} 
\ No newline at end of file
+}
@@ -54,7 +54,7 @@ public class LogConvert {
             return new ArrayList<>();
         }
         
-        List<AuditLogVO> voList = new ArrayList<>();
+        List<AuditLogVO> voList = new ArrayList<>(auditLogList.size());
         for (AuditLog auditLog : auditLogList) {
             voList.add(toVO(auditLog));
         }
@@ -94,7 +94,7 @@ public class LogConvert {
             return new ArrayList<>();
         }
         
-        List<SystemLogVO> voList = new ArrayList<>();
+        List<SystemLogVO> voList = new ArrayList<>(systemLogList.size());
         for (SystemLog systemLog : systemLogList) {
             voList.add(toVO(systemLog));
         }
@@ -134,7 +134,7 @@ public class LogConvert {
             return new ArrayList<>();
         }
         
-        List<LoginLogVO> voList = new ArrayList<>();
+        List<LoginLogVO> voList = new ArrayList<>(loginLogList.size());
         for (LoginLog loginLog : loginLogList) {
             voList.add(toVO(loginLog));
         }
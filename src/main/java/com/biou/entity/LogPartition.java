@@ -0,0 +1,89 @@
+package com.biou.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 日志表分区信息
+ * 日志表按 TO_DAYS(时间) 进行RANGE分区，分区上界为天数
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class LogPartition {
+
+    /**
+     * 保存MAXVALUE之后数据的兜底分区
+     */
+    public static final String FUTURE_PARTITION = "p_future";
+
+    /**
+     * MySQL中 TO_DAYS('1970-01-01') 的值
+     */
+    private static final long EPOCH_TO_DAYS = 719528L;
+
+    /**
+     * 分区名称
+     */
+    private String partitionName;
+
+    /**
+     * 分区上界，TO_DAYS值或MAXVALUE
+     */
+    private String partitionDescription;
+
+    /**
+     * 估算行数
+     */
+    private Long tableRows;
+
+    public LogPartition() {
+    }
+
+    public LogPartition(String partitionName, LocalDate upperBound) {
+        this.partitionName = partitionName;
+        this.partitionDescription = String.valueOf(upperBound.toEpochDay() + EPOCH_TO_DAYS);
+    }
+
+    /**
+     * 分区上界日期（不含），MAXVALUE分区返回null
+     */
+    public LocalDate getUpperBound() {
+        if (partitionDescription == null || "MAXVALUE".equalsIgnoreCase(partitionDescription)) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(Long.parseLong(partitionDescription.trim()) - EPOCH_TO_DAYS);
+    }
+
+    public String getPartitionName() {
+        return partitionName;
+    }
+
+    public void setPartitionName(String partitionName) {
+        this.partitionName = partitionName;
+    }
+
+    public String getPartitionDescription() {
+        return partitionDescription;
+    }
+
+    public void setPartitionDescription(String partitionDescription) {
+        this.partitionDescription = partitionDescription;
+    }
+
+    public Long getTableRows() {
+        return tableRows;
+    }
+
+    public void setTableRows(Long tableRows) {
+        this.tableRows = tableRows;
+    }
+
+    @Override
+    public String toString() {
+        return "LogPartition{" +
+                "partitionName='" + partitionName + '\'' +
+                ", partitionDescription='" + partitionDescription + '\'' +
+                ", tableRows=" + tableRows +
+                '}';
+    }
+}
@@ -0,0 +1,143 @@
+package com.biou.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 日志清理进度
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class LogPurgeTask {
+
+    /**
+     * 执行中
+     */
+    public static final String STATUS_RUNNING = "RUNNING";
+
+    /**
+     * 已完成
+     */
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    /**
+     * 日志类型：AUDIT,SYSTEM,LOGIN
+     */
+    private String logType;
+
+    /**
+     * 清理截止时间
+     */
+    private LocalDateTime cutoffTime;
+
+    /**
+     * 已清理到的日志时间
+     */
+    private LocalDateTime lastTime;
+
+    /**
+     * 已清理到的日志ID
+     */
+    private Long lastId;
+
+    /**
+     * 本轮已删除数量
+     */
+    private Long deletedCount;
+
+    /**
+     * 状态：RUNNING-执行中，COMPLETED-已完成
+     */
+    private String status;
+
+    /**
+     * 本轮开始时间
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updateTime;
+
+    public LogPurgeTask() {
+    }
+
+    public String getLogType() {
+        return logType;
+    }
+
+    public void setLogType(String logType) {
+        this.logType = logType;
+    }
+
+    public LocalDateTime getCutoffTime() {
+        return cutoffTime;
+    }
+
+    public void setCutoffTime(LocalDateTime cutoffTime) {
+        this.cutoffTime = cutoffTime;
+    }
+
+    public LocalDateTime getLastTime() {
+        return lastTime;
+    }
+
+    public void setLastTime(LocalDateTime lastTime) {
+        this.lastTime = lastTime;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(Long lastId) {
+        this.lastId = lastId;
+    }
+
+    public Long getDeletedCount() {
+        return deletedCount;
+    }
+
+    public void setDeletedCount(Long deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(LocalDateTime updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    @Override
+    public String toString() {
+        return "LogPurgeTask{" +
+                "logType='" + logType + '\'' +
+                ", cutoffTime=" + cutoffTime +
+                ", lastTime=" + lastTime +
+                ", lastId=" + lastId +
+                ", deletedCount=" + deletedCount +
+                ", status='" + status + '\'' +
+                ", startTime=" + startTime +
+                ", updateTime=" + updateTime +
+                '}';
+    }
+}
@@ -0,0 +1,120 @@
+package com.biou.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 日志统计汇总行
+ * 对应t_log_stat_hourly/t_log_stat_daily中的一行，也用于未汇总部分的实时统计结果
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class LogStatistic {
+
+    /**
+     * 统计时间（小时表为整点，天表为当天零点）
+     */
+    private LocalDateTime statTime;
+
+    /**
+     * 日志类型：AUDIT,SYSTEM,LOGIN
+     */
+    private String logType;
+
+    /**
+     * 状态：0-失败，1-成功，-1-无
+     */
+    private Integer status;
+
+    /**
+     * 日志级别（系统日志）
+     */
+    private String level;
+
+    /**
+     * 操作模块（审计日志）
+     */
+    private String module;
+
+    /**
+     * 操作类型（审计日志）
+     */
+    private String operationType;
+
+    /**
+     * 日志数量
+     */
+    private Long logCount;
+
+    public LogStatistic() {
+    }
+
+    public LocalDateTime getStatTime() {
+        return statTime;
+    }
+
+    public void setStatTime(LocalDateTime statTime) {
+        this.statTime = statTime;
+    }
+
+    public String getLogType() {
+        return logType;
+    }
+
+    public void setLogType(String logType) {
+        this.logType = logType;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public void setLevel(String level) {
+        this.level = level;
+    }
+
+    public String getModule() {
+        return module;
+    }
+
+    public void setModule(String module) {
+        this.module = module;
+    }
+
+    public String getOperationType() {
+        return operationType;
+    }
+
+    public void setOperationType(String operationType) {
+        this.operationType = operationType;
+    }
+
+    public Long getLogCount() {
+        return logCount;
+    }
+
+    public void setLogCount(Long logCount) {
+        this.logCount = logCount;
+    }
+
+    @Override
+    public String toString() {
+        return "LogStatistic{" +
+                "statTime=" + statTime +
+                ", logType='" + logType + '\'' +
+                ", status=" + status +
+                ", level='" + level + '\'' +
+                ", module='" + module + '\'' +
+                ", operationType='" + operationType + '\'' +
+                ", logCount=" + logCount +
+                '}';
+    }
+}
@@ -0,0 +1,301 @@
+package com.biou.logging;
+
+import com.biou.entity.AuditLog;
+import com.biou.mapper.AuditLogMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 审计日志异步批量写入器
+ * 请求线程只负责入队，由专用写线程按批次大小或最大等待时间合并为多行INSERT写入数据库
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class AuditLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    @Autowired
+    private AuditLogMapper auditLogMapper;
+
+    @Autowired
+    private LogJournal logJournal;
+
+    /**
+     * 是否启用异步批量写入，关闭后退化为同步单条写入
+     */
+    @Value("${biou.log.audit-writer.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 队列容量
+     */
+    @Value("${biou.log.audit-writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * 写线程数量
+     */
+    @Value("${biou.log.audit-writer.writer-threads:2}")
+    private int writerThreads;
+
+    /**
+     * 单批次最大条数
+     */
+    @Value("${biou.log.audit-writer.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 批次最大等待时间（毫秒）
+     */
+    @Value("${biou.log.audit-writer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    /**
+     * 队列满时的处理策略
+     */
+    @Value("${biou.log.audit-writer.overflow-policy:BLOCK}")
+    private LogOverflowPolicy overflowPolicy;
+
+    /**
+     * BLOCK策略下的最大阻塞时间（毫秒）
+     */
+    @Value("${biou.log.audit-writer.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    private BlockingQueue<AuditLog> queue;
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    private volatile boolean running;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            logger.info("审计日志异步写入未启用，使用同步写入");
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        for (int i = 0; i < writerThreads; i++) {
+            Thread thread = new Thread(this::runWriter, "audit-log-writer-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        logger.info("审计日志异步写入已启动，队列容量：{}，写线程：{}，批次大小：{}，刷新间隔：{}ms，溢出策略：{}",
+                queueCapacity, writerThreads, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join(flushIntervalMs + 5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        logger.info("审计日志异步写入已停止，累计入队：{}，写入：{}，丢弃：{}，落盘：{}，失败：{}",
+                enqueuedCount.get(), flushedCount.get(), droppedCount.get(), spilledCount.get(), failedCount.get());
+    }
+
+    /**
+     * 提交审计日志，正常情况下仅入队即返回
+     *
+     * @param auditLog 审计日志
+     */
+    public void submit(AuditLog auditLog) {
+        if (auditLog.getCreateTime() == null) {
+            auditLog.setCreateTime(LocalDateTime.now());
+        }
+
+        if (!running) {
+            insertDirectly(auditLog);
+            return;
+        }
+
+        if (queue.offer(auditLog)) {
+            enqueuedCount.incrementAndGet();
+            return;
+        }
+        handleOverflow(auditLog);
+    }
+
+    /**
+     * 队列满时按策略处理
+     */
+    private void handleOverflow(AuditLog auditLog) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                // 循环直到入队成功，避免并发下空位被其他线程抢占
+                while (!queue.offer(auditLog)) {
+                    if (queue.poll() != null) {
+                        recordDropped();
+                    }
+                }
+                enqueuedCount.incrementAndGet();
+                break;
+            case SPILL:
+                spill(Collections.singletonList(auditLog), null);
+                break;
+            case BLOCK:
+            default:
+                try {
+                    if (queue.offer(auditLog, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        enqueuedCount.incrementAndGet();
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                recordDropped();
+                break;
+        }
+    }
+
+    /**
+     * 写线程主循环：达到批次大小或等待超时即刷出
+     */
+    private void runWriter() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        long deadline = 0L;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                long waitMillis = batch.isEmpty()
+                        ? flushIntervalMs
+                        : Math.max(0L, deadline - System.currentTimeMillis());
+                AuditLog auditLog = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+                if (auditLog != null) {
+                    if (batch.isEmpty()) {
+                        deadline = System.currentTimeMillis() + flushIntervalMs;
+                    }
+                    batch.add(auditLog);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+
+                if (batch.size() >= batchSize
+                        || (!batch.isEmpty() && System.currentTimeMillis() >= deadline)) {
+                    flush(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("审计日志写线程异常", e);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    /**
+     * 批量写入数据库，数据库不可用或写入失败时转存本地落盘日志
+     */
+    private void flush(List<AuditLog> batch) {
+        if (logJournal.shouldBypassDatabase()) {
+            spill(batch, null);
+            return;
+        }
+        try {
+            auditLogMapper.batchInsert(batch);
+            flushedCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            logger.error("批量写入审计日志失败，共 {} 条", batch.size(), e);
+            spill(batch, e);
+        }
+    }
+
+    /**
+     * 同步单条写入（未启用异步或已停止时使用）
+     */
+    private void insertDirectly(AuditLog auditLog) {
+        if (logJournal.shouldBypassDatabase()) {
+            spill(Collections.singletonList(auditLog), null);
+            return;
+        }
+        try {
+            auditLogMapper.insert(auditLog);
+        } catch (Exception e) {
+            logger.error("保存审计日志失败", e);
+            spill(Collections.singletonList(auditLog), e);
+        }
+    }
+
+    /**
+     * 写入本地落盘日志，待数据库恢复后由回放任务写回
+     */
+    private void spill(List<AuditLog> auditLogs, Exception cause) {
+        if (logJournal.spill(LogJournalRecordType.AUDIT, auditLogs, cause)) {
+            spilledCount.addAndGet(auditLogs.size());
+        } else {
+            droppedCount.addAndGet(auditLogs.size());
+            logger.error("审计日志落盘失败，丢弃 {} 条", auditLogs.size());
+        }
+    }
+
+    private void recordDropped() {
+        long dropped = droppedCount.incrementAndGet();
+        // 避免队列持续满载时刷屏，每1000条提示一次
+        if (dropped % 1000 == 1) {
+            logger.warn("审计日志队列已满，累计丢弃 {} 条", dropped);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
@@ -14,10 +14,15 @@ import java.io.StringWriter;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 数据库日志Appender
- * 将应用日志保存到数据库
+ * 将应用日志保存到数据库，日志先在内存中累积，达到批次大小或超过最大等待时间后批量写入
  *
  * @author Jax
  * @since 2025-01-07
@@ -26,31 +31,135 @@ public class DatabaseLogAppender extends AppenderBase<ILoggingEvent> {
 
     private LogService logService;
 
+    /**
+     * 单批次最大条数，可在logback配置中通过batchSize设置
+     */
+    private int batchSize = 100;
+
+    /**
+     * 批次最大等待时间（毫秒），可在logback配置中通过maxLingerMillis设置
+     */
+    private long maxLingerMillis = 1000L;
+
+    private final Object bufferLock = new Object();
+
+    private List<SystemLog> buffer = new ArrayList<>();
+
+    /**
+     * 当前批次第一条日志进入缓冲区的时间
+     */
+    private long firstBufferedAt;
+
+    private ScheduledExecutorService flushScheduler;
+
     @Override
     public void start() {
+        if (batchSize <= 0) {
+            addWarn("batchSize必须大于0，已重置为1");
+            batchSize = 1;
+        }
+        // 定时刷出等待超过maxLingerMillis的批次
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "database-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(maxLingerMillis / 2, 50L);
+        flushScheduler.scheduleWithFixedDelay(this::flushIfLingerExpired, period, period, TimeUnit.MILLISECONDS);
         super.start();
-        // 延迟获取Service，避免循环依赖
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+        // 停止前刷出剩余日志
+        flush();
     }
 
     @Override
     protected void append(ILoggingEvent event) {
         try {
-            // 延迟初始化LogService
+            SystemLog systemLog = convertToSystemLog(event);
+            boolean full;
+            synchronized (bufferLock) {
+                if (buffer.isEmpty()) {
+                    firstBufferedAt = System.currentTimeMillis();
+                }
+                buffer.add(systemLog);
+                full = buffer.size() >= batchSize;
+            }
+            if (full) {
+                flush();
+            }
+        } catch (Exception e) {
+            // 不能在这里使用logger，否则会造成循环调用
+            System.err.println("保存系统日志失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 缓冲区中最早的日志超过最大等待时间时刷出
+     */
+    private void flushIfLingerExpired() {
+        boolean expired;
+        synchronized (bufferLock) {
+            expired = !buffer.isEmpty() && System.currentTimeMillis() - firstBufferedAt >= maxLingerMillis;
+        }
+        if (expired) {
+            flush();
+        }
+    }
+
+    /**
+     * 取出当前批次并批量写入数据库
+     */
+    private void flush() {
+        List<SystemLog> batch;
+        synchronized (bufferLock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = buffer;
+            buffer = new ArrayList<>(batchSize);
+        }
+
+        try {
+            // 延迟获取Service，避免循环依赖
             if (logService == null) {
                 logService = SpringContextUtils.getBean(LogService.class);
                 if (logService == null) {
                     return; // 如果无法获取服务，跳过记录
                 }
             }
-
-            SystemLog systemLog = convertToSystemLog(event);
-            logService.saveSystemLog(systemLog);
+            logService.saveSystemLogBatch(batch);
         } catch (Exception e) {
             // 不能在这里使用logger，否则会造成循环调用
-            System.err.println("保存系统日志失败: " + e.getMessage());
+            System.err.println("批量保存系统日志失败: " + e.getMessage());
         }
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getMaxLingerMillis() {
+        return maxLingerMillis;
+    }
+
+    public void setMaxLingerMillis(long maxLingerMillis) {
+        this.maxLingerMillis = maxLingerMillis;
+    }
+
     /**
      * 将ILoggingEvent转换为SystemLog
      */
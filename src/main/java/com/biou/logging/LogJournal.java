@@ -0,0 +1,442 @@
+package com.biou.logging;
+
+import com.alibaba.fastjson2.JSON;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 本地落盘日志（Journal）
+ * 数据库不可用或写入落后时，日志以追加方式写入内存映射的分段文件，由{@link LogJournalReplayer}在数据库恢复后批量回放
+ * <p>
+ * 记录格式：[负载长度(4)][CRC32(4)][类型(1)][JSON负载]，长度为0表示分段文件中未写入的区域
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class LogJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    /**
+     * 记录头长度：负载长度(4) + CRC32(4) + 类型(1)
+     */
+    private static final int RECORD_HEADER_SIZE = 9;
+
+    /**
+     * 是否启用本地落盘
+     */
+    @Value("${biou.log.journal.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 分段文件目录
+     */
+    @Value("${biou.log.journal.dir:logs/journal}")
+    private String dir;
+
+    /**
+     * 单个分段文件大小（MB）
+     */
+    @Value("${biou.log.journal.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    /**
+     * 每次写入后是否强制刷盘
+     */
+    @Value("${biou.log.journal.sync-on-write:false}")
+    private boolean syncOnWrite;
+
+    private Path directory;
+
+    private long nextSequence;
+
+    private long activeSequence = -1L;
+
+    private FileChannel activeChannel;
+
+    private MappedByteBuffer activeBuffer;
+
+    private long checkpointSequence = -1L;
+
+    private int checkpointOffset;
+
+    /**
+     * 数据库是否可用，不可用时写入方直接落盘，由回放成功后恢复
+     */
+    private volatile boolean databaseAvailable = true;
+
+    private final AtomicLong appendedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            logger.info("本地落盘日志未启用");
+            return;
+        }
+
+        try {
+            directory = Paths.get(dir);
+            Files.createDirectories(directory);
+            List<Long> sequences = listSegmentSequences();
+            nextSequence = sequences.isEmpty() ? 0L : sequences.get(sequences.size() - 1) + 1;
+            loadCheckpoint();
+            if (!sequences.isEmpty()) {
+                logger.info("发现 {} 个待回放的本地日志分段文件", sequences.size());
+            }
+        } catch (IOException e) {
+            enabled = false;
+            logger.error("初始化本地落盘日志目录失败，已禁用本地落盘：{}", dir, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        sealActiveSegment();
+    }
+
+    /**
+     * 是否应跳过数据库直接落盘
+     */
+    public boolean shouldBypassDatabase() {
+        return enabled && !databaseAvailable;
+    }
+
+    /**
+     * 数据库写入失败时落盘，连接类异常会将数据库标记为不可用
+     *
+     * @param type     记录类型
+     * @param entities 日志实体
+     * @param cause    数据库写入异常，可为null
+     * @return 是否落盘成功
+     */
+    public boolean spill(LogJournalRecordType type, List<?> entities, Throwable cause) {
+        if (cause != null && isDatabaseUnavailable(cause)) {
+            markDatabaseUnavailable();
+        }
+        return append(type, entities);
+    }
+
+    /**
+     * 追加写入日志记录
+     *
+     * @param type     记录类型
+     * @param entities 日志实体
+     * @return 是否写入成功
+     */
+    public synchronized boolean append(LogJournalRecordType type, List<?> entities) {
+        if (!enabled || entities == null || entities.isEmpty()) {
+            return false;
+        }
+
+        try {
+            for (Object entity : entities) {
+                byte[] payload = JSON.toJSONBytes(entity);
+                int recordSize = RECORD_HEADER_SIZE + payload.length;
+                if (activeBuffer == null || activeBuffer.remaining() < recordSize) {
+                    rollSegment(recordSize);
+                }
+                CRC32 crc = new CRC32();
+                crc.update(payload, 0, payload.length);
+                activeBuffer.putInt(payload.length)
+                        .putInt((int) crc.getValue())
+                        .put(type.getCode())
+                        .put(payload);
+            }
+            if (syncOnWrite) {
+                activeBuffer.force();
+            }
+            appendedCount.addAndGet(entities.size());
+            return true;
+        } catch (Exception e) {
+            failedCount.addAndGet(entities.size());
+            logger.error("写入本地落盘日志失败，共 {} 条", entities.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 获取待回放的分段文件序号（按写入顺序）
+     * 没有已封存的分段时，会封存当前写入中的分段以便回放
+     */
+    public synchronized List<Long> pendingSegments() throws IOException {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+
+        List<Long> sequences = listSegmentSequences();
+        sequences.remove(Long.valueOf(activeSequence));
+        if (sequences.isEmpty() && activeBuffer != null && activeBuffer.position() > 0) {
+            sequences.add(activeSequence);
+            sealActiveSegment();
+        }
+        return sequences;
+    }
+
+    /**
+     * 从指定偏移量读取已封存分段中的记录
+     *
+     * @param sequence   分段序号
+     * @param offset     起始偏移量
+     * @param maxRecords 最大读取条数
+     * @return 本批记录，记录为空且未到分段末尾表示后续数据已损坏
+     */
+    public LogJournalBatch read(long sequence, int offset, int maxRecords) throws IOException {
+        List<LogJournalRecord> records = new ArrayList<>();
+        long position = offset;
+        boolean endOfSegment = false;
+        // 按记录逐条读取，不映射整个分段，避免回放大量分段时长期占用地址空间
+        try (FileChannel channel = FileChannel.open(segmentPath(sequence), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            while (records.size() < maxRecords) {
+                if (size - position < RECORD_HEADER_SIZE) {
+                    endOfSegment = true;
+                    break;
+                }
+                header.clear();
+                readFully(channel, header, position);
+                header.flip();
+                int length = header.getInt();
+                if (length == 0) {
+                    // 未写入区域，分段结束
+                    endOfSegment = true;
+                    break;
+                }
+                if (length < 0 || length > size - position - RECORD_HEADER_SIZE) {
+                    logger.warn("本地日志分段 {} 在偏移量 {} 处记录不完整，停止读取", sequence, position);
+                    break;
+                }
+                int checksum = header.getInt();
+                byte code = header.get();
+                byte[] payload = new byte[length];
+                readFully(channel, ByteBuffer.wrap(payload), position + RECORD_HEADER_SIZE);
+
+                CRC32 crc = new CRC32();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    logger.warn("本地日志分段 {} 在偏移量 {} 处校验失败，停止读取", sequence, position);
+                    break;
+                }
+                position += RECORD_HEADER_SIZE + length;
+                LogJournalRecordType type = LogJournalRecordType.fromCode(code);
+                if (type == null) {
+                    logger.warn("本地日志分段 {} 中存在未知记录类型：{}，已跳过", sequence, code);
+                    continue;
+                }
+                records.add(new LogJournalRecord(type, payload, (int) position));
+            }
+        }
+        return new LogJournalBatch(records, (int) position, endOfSegment);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int count = channel.read(buffer, position + buffer.position());
+            if (count < 0) {
+                throw new EOFException("Unexpected end of journal segment");
+            }
+        }
+    }
+
+    /**
+     * 获取分段的回放进度
+     */
+    public synchronized int getCheckpointOffset(long sequence) {
+        return checkpointSequence == sequence ? checkpointOffset : 0;
+    }
+
+    /**
+     * 保存回放进度
+     */
+    public synchronized void saveCheckpoint(long sequence, int offset) throws IOException {
+        Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.write(tmp, (sequence + "," + offset).getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSequence = sequence;
+        checkpointOffset = offset;
+    }
+
+    /**
+     * 删除已回放完成的分段
+     */
+    public synchronized void deleteSegment(long sequence) throws IOException {
+        Files.deleteIfExists(segmentPath(sequence));
+        clearCheckpoint(sequence);
+    }
+
+    /**
+     * 隔离含有损坏记录、无法继续回放的分段，重命名为 *.corrupt 保留原始数据以便人工处理
+     *
+     * @return 隔离后的文件路径
+     */
+    public synchronized Path quarantineSegment(long sequence) throws IOException {
+        Path source = segmentPath(sequence);
+        Path target = source.resolveSibling(source.getFileName() + CORRUPT_SUFFIX);
+        if (Files.exists(target)) {
+            target = source.resolveSibling(source.getFileName() + "." + System.currentTimeMillis() + CORRUPT_SUFFIX);
+        }
+        Files.move(source, target);
+        clearCheckpoint(sequence);
+        return target;
+    }
+
+    public void markDatabaseUnavailable() {
+        if (databaseAvailable) {
+            databaseAvailable = false;
+            logger.warn("数据库不可用，日志将写入本地落盘文件，待恢复后回放");
+        }
+    }
+
+    public void markDatabaseAvailable() {
+        if (!databaseAvailable) {
+            databaseAvailable = true;
+            logger.info("数据库已恢复，日志恢复直接写入数据库");
+        }
+    }
+
+    /**
+     * 判断异常是否由数据库不可用（连接失败、超时等）引起
+     */
+    public static boolean isDatabaseUnavailable(Throwable e) {
+        Throwable current = e;
+        while (current != null) {
+            if (current instanceof TransientDataAccessException
+                    || current instanceof DataAccessResourceFailureException
+                    || current instanceof RecoverableDataAccessException
+                    || current instanceof SQLTransientException
+                    || current instanceof SQLRecoverableException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isDatabaseAvailable() {
+        return databaseAvailable;
+    }
+
+    public long getAppendedCount() {
+        return appendedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 封存当前分段并创建新分段
+     */
+    private void rollSegment(int minSize) throws IOException {
+        sealActiveSegment();
+        long size = Math.max((long) segmentSizeMb * 1024 * 1024, minSize);
+        activeSequence = nextSequence++;
+        activeChannel = FileChannel.open(segmentPath(activeSequence),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void sealActiveSegment() {
+        if (activeBuffer == null) {
+            return;
+        }
+        boolean empty = activeBuffer.position() == 0;
+        try {
+            activeBuffer.force();
+            activeChannel.close();
+            if (empty) {
+                Files.deleteIfExists(segmentPath(activeSequence));
+            }
+        } catch (IOException e) {
+            logger.error("封存本地日志分段 {} 失败", activeSequence, e);
+        } finally {
+            activeBuffer = null;
+            activeChannel = null;
+            activeSequence = -1L;
+        }
+    }
+
+    private List<Long> listSegmentSequences() throws IOException {
+        List<Long> sequences = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    sequences.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    logger.warn("忽略无法识别的本地日志分段文件：{}", name);
+                }
+            }
+        }
+        Collections.sort(sequences);
+        return sequences;
+    }
+
+    private void clearCheckpoint(long sequence) throws IOException {
+        if (checkpointSequence == sequence) {
+            Files.deleteIfExists(directory.resolve(CHECKPOINT_FILE));
+            checkpointSequence = -1L;
+            checkpointOffset = 0;
+        }
+    }
+
+    private void loadCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        String[] parts = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim().split(",");
+        if (parts.length == 2) {
+            checkpointSequence = Long.parseLong(parts[0]);
+            checkpointOffset = Integer.parseInt(parts[1]);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+}
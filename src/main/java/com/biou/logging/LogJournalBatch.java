@@ -0,0 +1,42 @@
+package com.biou.logging;
+
+import java.util.List;
+
+/**
+ * 从本地落盘分段中读取的一批记录
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class LogJournalBatch {
+
+    private final List<LogJournalRecord> records;
+
+    /**
+     * 本批读取结束时的偏移量，包含已跳过的未知类型记录
+     */
+    private final int nextOffset;
+
+    /**
+     * 是否已读到分段末尾（未写入区域或文件结尾），为false且记录为空时表示遇到了损坏的记录
+     */
+    private final boolean endOfSegment;
+
+    public LogJournalBatch(List<LogJournalRecord> records, int nextOffset, boolean endOfSegment) {
+        this.records = records;
+        this.nextOffset = nextOffset;
+        this.endOfSegment = endOfSegment;
+    }
+
+    public List<LogJournalRecord> getRecords() {
+        return records;
+    }
+
+    public int getNextOffset() {
+        return nextOffset;
+    }
+
+    public boolean isEndOfSegment() {
+        return endOfSegment;
+    }
+}
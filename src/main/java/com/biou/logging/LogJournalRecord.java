@@ -0,0 +1,47 @@
+package com.biou.logging;
+
+import com.alibaba.fastjson2.JSON;
+
+/**
+ * 本地落盘日志中的一条记录
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class LogJournalRecord {
+
+    private final LogJournalRecordType type;
+
+    private final byte[] payload;
+
+    /**
+     * 下一条记录在分段文件中的偏移量，用于保存回放进度
+     */
+    private final int nextOffset;
+
+    public LogJournalRecord(LogJournalRecordType type, byte[] payload, int nextOffset) {
+        this.type = type;
+        this.payload = payload;
+        this.nextOffset = nextOffset;
+    }
+
+    /**
+     * 反序列化为日志实体
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T toEntity() {
+        return (T) JSON.parseObject(payload, type.getEntityClass());
+    }
+
+    public LogJournalRecordType getType() {
+        return type;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public int getNextOffset() {
+        return nextOffset;
+    }
+}
@@ -0,0 +1,61 @@
+package com.biou.logging;
+
+import com.biou.entity.AuditLog;
+import com.biou.entity.LoginLog;
+import com.biou.entity.SystemLog;
+
+/**
+ * 本地落盘日志记录类型
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public enum LogJournalRecordType {
+
+    /**
+     * 审计日志
+     */
+    AUDIT((byte) 1, AuditLog.class),
+
+    /**
+     * 系统日志
+     */
+    SYSTEM((byte) 2, SystemLog.class),
+
+    /**
+     * 登录日志
+     */
+    LOGIN((byte) 3, LoginLog.class);
+
+    private final byte code;
+
+    private final Class<?> entityClass;
+
+    LogJournalRecordType(byte code, Class<?> entityClass) {
+        this.code = code;
+        this.entityClass = entityClass;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * 根据类型编码获取记录类型
+     *
+     * @param code 类型编码
+     * @return 记录类型，未知编码返回null
+     */
+    public static LogJournalRecordType fromCode(byte code) {
+        for (LogJournalRecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,171 @@
+package com.biou.logging;
+
+import com.biou.entity.AuditLog;
+import com.biou.entity.LoginLog;
+import com.biou.entity.SystemLog;
+import com.biou.mapper.AuditLogMapper;
+import com.biou.mapper.LoginLogMapper;
+import com.biou.mapper.SystemLogMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 本地落盘日志回放任务
+ * 按写入顺序读取已封存的分段，将同类型的连续记录合并为批量插入，每批成功后保存回放进度
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class LogJournalReplayer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogJournalReplayer.class);
+
+    @Autowired
+    private LogJournal logJournal;
+
+    @Autowired
+    private AuditLogMapper auditLogMapper;
+
+    @Autowired
+    private SystemLogMapper systemLogMapper;
+
+    @Autowired
+    private LoginLogMapper loginLogMapper;
+
+    /**
+     * 单次批量插入的最大条数
+     */
+    @Value("${biou.log.journal.replay-batch-size:500}")
+    private int replayBatchSize;
+
+    /**
+     * 回放本地落盘日志
+     */
+    @Scheduled(fixedDelayString = "${biou.log.journal.replay-interval-ms:5000}")
+    public void replay() {
+        if (!logJournal.isEnabled()) {
+            return;
+        }
+
+        try {
+            for (Long sequence : logJournal.pendingSegments()) {
+                if (!replaySegment(sequence)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("回放本地落盘日志失败", e);
+        }
+    }
+
+    /**
+     * 回放单个分段，读到分段末尾后删除分段，遇到损坏的记录时隔离分段
+     *
+     * @return 是否回放完成
+     */
+    private boolean replaySegment(long sequence) throws Exception {
+        int offset = logJournal.getCheckpointOffset(sequence);
+        long replayed = 0L;
+        LogJournalBatch batch;
+        try {
+            do {
+                batch = logJournal.read(sequence, offset, replayBatchSize);
+                List<LogJournalRecord> records = batch.getRecords();
+                int index = 0;
+                while (index < records.size()) {
+                    LogJournalRecordType type = records.get(index).getType();
+                    int end = index + 1;
+                    while (end < records.size() && records.get(end).getType() == type) {
+                        end++;
+                    }
+                    insertRecords(type, records.subList(index, end));
+                    offset = records.get(end - 1).getNextOffset();
+                    logJournal.saveCheckpoint(sequence, offset);
+                    replayed += end - index;
+                    index = end;
+                }
+                offset = batch.getNextOffset();
+            } while (!batch.getRecords().isEmpty());
+        } catch (Exception e) {
+            if (!LogJournal.isDatabaseUnavailable(e)) {
+                throw e;
+            }
+            logJournal.markDatabaseUnavailable();
+            logger.warn("数据库仍不可用，本地日志分段 {} 已回放 {} 条，等待下次重试：{}", sequence, replayed, e.getMessage());
+            return false;
+        }
+
+        logJournal.markDatabaseAvailable();
+        if (batch.isEndOfSegment()) {
+            logJournal.deleteSegment(sequence);
+            logger.info("本地日志分段 {} 回放完成，本次回放 {} 条", sequence, replayed);
+        } else {
+            // 损坏位置之后的数据未回放，保留原文件
+            logger.error("本地日志分段 {} 在偏移量 {} 处存在损坏的记录，本次回放 {} 条，剩余数据已隔离到 {}",
+                    sequence, offset, replayed, logJournal.quarantineSegment(sequence));
+        }
+        return true;
+    }
+
+    /**
+     * 批量插入同类型记录，数据本身有误时逐条插入并跳过无法写入的记录
+     */
+    private void insertRecords(LogJournalRecordType type, List<LogJournalRecord> records) {
+        try {
+            batchInsert(type, records);
+        } catch (Exception e) {
+            if (LogJournal.isDatabaseUnavailable(e)) {
+                throw e;
+            }
+            for (LogJournalRecord record : records) {
+                try {
+                    batchInsert(type, Collections.singletonList(record));
+                } catch (Exception ex) {
+                    if (LogJournal.isDatabaseUnavailable(ex)) {
+                        throw ex;
+                    }
+                    logger.error("本地日志记录无法写入数据库，已跳过：{}",
+                            new String(record.getPayload(), StandardCharsets.UTF_8), ex);
+                }
+            }
+        }
+    }
+
+    private void batchInsert(LogJournalRecordType type, List<LogJournalRecord> records) {
+        switch (type) {
+            case AUDIT:
+                List<AuditLog> auditLogs = new ArrayList<>(records.size());
+                for (LogJournalRecord record : records) {
+                    auditLogs.add(record.toEntity());
+                }
+                auditLogMapper.batchInsert(auditLogs);
+                break;
+            case SYSTEM:
+                List<SystemLog> systemLogs = new ArrayList<>(records.size());
+                for (LogJournalRecord record : records) {
+                    systemLogs.add(record.toEntity());
+                }
+                systemLogMapper.batchInsert(systemLogs);
+                break;
+            case LOGIN:
+                List<LoginLog> loginLogs = new ArrayList<>(records.size());
+                for (LogJournalRecord record : records) {
+                    loginLogs.add(record.toEntity());
+                }
+                loginLogMapper.batchInsert(loginLogs);
+                break;
+            default:
+                break;
+        }
+    }
+}
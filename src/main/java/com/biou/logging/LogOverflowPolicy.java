@@ -0,0 +1,25 @@
+package com.biou.logging;
+
+/**
+ * 日志队列溢出策略
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public enum LogOverflowPolicy {
+
+    /**
+     * 阻塞等待队列空位，超过等待时间仍无空位则丢弃
+     */
+    BLOCK,
+
+    /**
+     * 丢弃队列中最早的日志，为新日志腾出空间
+     */
+    DROP_OLDEST,
+
+    /**
+     * 写入本地落盘日志（{@link LogJournal}），待数据库恢复后回放，避免丢失
+     */
+    SPILL
+}
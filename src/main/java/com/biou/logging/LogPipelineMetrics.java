@@ -0,0 +1,127 @@
+package com.biou.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.biou.service.IpLocationService;
+import com.biou.util.LogUtils;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 日志写入链路指标
+ * 审计日志写入队列、本地落盘、数据库异步Appender队列以及UA解析、IP定位缓存
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class LogPipelineMetrics implements MeterBinder {
+
+    private static final String ASYNC_DATABASE_APPENDER = "ASYNC_DATABASE";
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private LogJournal logJournal;
+
+    @Autowired
+    private IpLocationService ipLocationService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindAuditWriter(registry);
+        bindJournal(registry);
+        bindAsyncAppender(registry);
+        bindCacheGets(registry, "userAgent", metrics -> LogUtils.getUserAgentCacheStats());
+        bindCacheGets(registry, "ipLocation", metrics -> metrics.ipLocationService.getCacheStats());
+    }
+
+    private void bindAuditWriter(MeterRegistry registry) {
+        bindAuditEvents(registry, "enqueued", AuditLogWriter::getEnqueuedCount);
+        bindAuditEvents(registry, "flushed", AuditLogWriter::getFlushedCount);
+        bindAuditEvents(registry, "dropped", AuditLogWriter::getDroppedCount);
+        bindAuditEvents(registry, "spilled", AuditLogWriter::getSpilledCount);
+        bindAuditEvents(registry, "failed", AuditLogWriter::getFailedCount);
+        Gauge.builder("biou.log.audit.queue.size", auditLogWriter, AuditLogWriter::getQueueSize)
+                .description("审计日志写入队列积压条数")
+                .register(registry);
+    }
+
+    private void bindAuditEvents(MeterRegistry registry, String outcome, ToDoubleFunction<AuditLogWriter> count) {
+        FunctionCounter.builder("biou.log.audit.events", auditLogWriter, count)
+                .description("审计日志写入事件数")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private void bindJournal(MeterRegistry registry) {
+        FunctionCounter.builder("biou.log.journal.records", logJournal, LogJournal::getAppendedCount)
+                .description("本地落盘记录数")
+                .tag("outcome", "appended")
+                .register(registry);
+        FunctionCounter.builder("biou.log.journal.records", logJournal, LogJournal::getFailedCount)
+                .description("本地落盘记录数")
+                .tag("outcome", "failed")
+                .register(registry);
+        Gauge.builder("biou.log.journal.database.available", logJournal,
+                        journal -> journal.isDatabaseAvailable() ? 1 : 0)
+                .description("数据库是否可写，0表示日志正在落盘等待回放")
+                .register(registry);
+    }
+
+    /**
+     * 数据库日志Appender在logback-spring.xml中配置，未启用时不注册
+     */
+    private void bindAsyncAppender(MeterRegistry registry) {
+        ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        if (!(factory instanceof LoggerContext)) {
+            return;
+        }
+        Appender<ILoggingEvent> appender = ((LoggerContext) factory)
+                .getLogger(Logger.ROOT_LOGGER_NAME).getAppender(ASYNC_DATABASE_APPENDER);
+        if (!(appender instanceof AsyncAppender)) {
+            return;
+        }
+        AsyncAppender asyncAppender = (AsyncAppender) appender;
+        Gauge.builder("biou.log.appender.queue.size", asyncAppender, AsyncAppender::getNumberOfElementsInQueue)
+                .description("异步日志Appender队列积压条数")
+                .tag("appender", ASYNC_DATABASE_APPENDER)
+                .register(registry);
+        Gauge.builder("biou.log.appender.queue.remaining", asyncAppender, AsyncAppender::getRemainingCapacity)
+                .description("异步日志Appender队列剩余容量")
+                .tag("appender", ASYNC_DATABASE_APPENDER)
+                .register(registry);
+    }
+
+    /**
+     * 指标只弱引用被观测对象，统计来源统一挂在当前Bean上
+     */
+    private void bindCacheGets(MeterRegistry registry, String cache, Function<LogPipelineMetrics, CacheStats> stats) {
+        FunctionCounter.builder("biou.cache.gets", this, metrics -> stats.apply(metrics).hitCount())
+                .description("缓存读取次数")
+                .tag("cache", cache)
+                .tag("level", "local")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("biou.cache.gets", this, metrics -> stats.apply(metrics).missCount())
+                .description("缓存读取次数")
+                .tag("cache", cache)
+                .tag("level", "local")
+                .tag("result", "miss")
+                .register(registry);
+    }
+}
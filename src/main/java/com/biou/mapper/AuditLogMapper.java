@@ -1,11 +1,15 @@
 package com.biou.mapper;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.biou.entity.AuditLog;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 审计日志Mapper接口
@@ -31,4 +35,20 @@ public interface AuditLogMapper extends BaseMapper<AuditLog> {
      * @return 记录数量
      */
     long countByCreateTimeBefore(@Param("beforeDate") LocalDateTime beforeDate);
+
+    /**
+     * 批量插入审计日志（多行INSERT）
+     *
+     * @param auditLogs 审计日志列表
+     * @return 插入记录数
+     */
+    int batchInsert(@Param("auditLogs") List<AuditLog> auditLogs);
+
+    /**
+     * 流式查询审计日志，逐行读取结果集，需在事务内遍历
+     *
+     * @param wrapper 查询条件
+     * @return 结果游标
+     */
+    Cursor<AuditLog> selectCursor(@Param(Constants.WRAPPER) Wrapper<AuditLog> wrapper);
 } 
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.biou.mapper;
+
+import com.biou.entity.LogPartition;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 日志表分区维护Mapper接口
+ * logType取值为AUDIT、SYSTEM、LOGIN，对应审计、系统、登录日志表
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Mapper
+public interface LogPartitionMapper {
+
+    /**
+     * 查询日志表分区，按分区顺序返回，未分区时返回空列表
+     *
+     * @param logType 日志类型
+     * @return 分区列表
+     */
+    List<LogPartition> selectPartitions(@Param("logType") String logType);
+
+    /**
+     * 拆分兜底分区，在其之前追加新分区
+     *
+     * @param logType    日志类型
+     * @param partitions 新分区，按上界升序
+     */
+    void splitFuturePartition(@Param("logType") String logType, @Param("partitions") List<LogPartition> partitions);
+
+    /**
+     * 删除分区，分区内数据一并删除
+     *
+     * @param logType        日志类型
+     * @param partitionNames 分区名称
+     */
+    void dropPartitions(@Param("logType") String logType, @Param("partitionNames") List<String> partitionNames);
+}
@@ -0,0 +1,59 @@
+package com.biou.mapper;
+
+import com.biou.entity.LogPurgeTask;
+import com.biou.util.LogCursor;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 日志分块清理Mapper接口
+ * logType取值为AUDIT、SYSTEM、LOGIN，对应审计、系统、登录日志表
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Mapper
+public interface LogPurgeMapper {
+
+    /**
+     * 按(时间, ID)顺序查询下一批过期日志的定位键，同时返回时间，用于记录进度
+     *
+     * @param logType  日志类型
+     * @param cutoff   清理截止时间
+     * @param lastTime 上一批最后一条日志的时间，为空时从头开始
+     * @param lastId   上一批最后一条日志的ID
+     * @param limit    最大条数
+     * @return 日志(时间, ID)列表
+     */
+    List<LogCursor> selectExpiredKeys(@Param("logType") String logType, @Param("cutoff") LocalDateTime cutoff,
+                                      @Param("lastTime") LocalDateTime lastTime, @Param("lastId") Long lastId,
+                                      @Param("limit") int limit);
+
+    /**
+     * 按主键批量删除日志
+     *
+     * @param logType 日志类型
+     * @param ids     日志ID列表
+     * @return 删除的记录数
+     */
+    int deleteByIds(@Param("logType") String logType, @Param("ids") List<Long> ids);
+
+    /**
+     * 查询清理进度
+     *
+     * @param logType 日志类型
+     * @return 清理进度
+     */
+    LogPurgeTask selectTask(@Param("logType") String logType);
+
+    /**
+     * 保存清理进度
+     *
+     * @param task 清理进度
+     * @return 影响的记录数
+     */
+    int saveTask(LogPurgeTask task);
+}
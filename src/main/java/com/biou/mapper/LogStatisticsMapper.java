@@ -0,0 +1,128 @@
+package com.biou.mapper;
+
+import com.biou.entity.LogStatistic;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 日志统计汇总Mapper接口
+ * logType取值为AUDIT、SYSTEM、LOGIN，对应审计、系统、登录日志表
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Mapper
+public interface LogStatisticsMapper {
+
+    /**
+     * 查询汇总水位并加锁，防止多实例重复汇总
+     *
+     * @param logType 日志类型
+     * @return 已汇总的最大日志ID
+     */
+    Long selectWatermarkForUpdate(@Param("logType") String logType);
+
+    /**
+     * 查询汇总水位
+     *
+     * @param logType 日志类型
+     * @return 已汇总的最大日志ID
+     */
+    Long selectWatermark(@Param("logType") String logType);
+
+    /**
+     * 更新汇总水位
+     *
+     * @param logType 日志类型
+     * @param lastId  已汇总的最大日志ID
+     * @return 更新的记录数
+     */
+    int updateWatermark(@Param("logType") String logType, @Param("lastId") Long lastId);
+
+    /**
+     * 查询日志表当前最大ID
+     *
+     * @param logType 日志类型
+     * @return 最大ID
+     */
+    Long selectMaxLogId(@Param("logType") String logType);
+
+    /**
+     * 查询ID区间内第一条时间晚于指定时间的日志ID，用于避开尚未提交完成的最新数据
+     *
+     * @param logType 日志类型
+     * @param fromId  起始ID（不含）
+     * @param toId    结束ID（含）
+     * @param after   时间
+     * @return 日志ID，不存在时返回null
+     */
+    Long selectFirstLogIdAfter(@Param("logType") String logType, @Param("fromId") Long fromId,
+                               @Param("toId") Long toId, @Param("after") LocalDateTime after);
+
+    /**
+     * 将ID区间内的日志累加到按小时汇总表
+     *
+     * @param logType 日志类型
+     * @param fromId  起始ID（不含）
+     * @param toId    结束ID（含）
+     * @return 影响的记录数
+     */
+    int rollupHourly(@Param("logType") String logType, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 将ID区间内的日志累加到按天汇总表
+     *
+     * @param logType 日志类型
+     * @param fromId  起始ID（不含）
+     * @param toId    结束ID（含）
+     * @return 影响的记录数
+     */
+    int rollupDaily(@Param("logType") String logType, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 按维度汇总按小时统计数据
+     *
+     * @param startTime 开始时间（含）
+     * @param endTime   结束时间（不含），为空时不限制
+     * @return 各维度数量
+     */
+    List<LogStatistic> selectHourlySummary(@Param("startTime") LocalDateTime startTime,
+                                           @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * 按维度汇总按天统计数据
+     *
+     * @param startTime 开始日期（含）
+     * @param endTime   结束日期（不含）
+     * @return 各维度数量
+     */
+    List<LogStatistic> selectDailySummary(@Param("startTime") LocalDateTime startTime,
+                                          @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * 按维度统计尚未汇总的日志
+     *
+     * @param logType   日志类型
+     * @param afterId   汇总水位
+     * @param startTime 开始时间（含）
+     * @return 各维度数量
+     */
+    List<LogStatistic> selectUnrolledSummary(@Param("logType") String logType, @Param("afterId") Long afterId,
+                                             @Param("startTime") LocalDateTime startTime);
+
+    /**
+     * 按维度统计时间段内已汇总的日志，用于开始时间不在整点时的首个不完整小时
+     *
+     * @param logType   日志类型
+     * @param maxId     汇总水位，只统计不超过该ID的日志
+     * @param startTime 开始时间（含）
+     * @param endTime   结束时间（不含）
+     * @return 各维度数量
+     */
+    List<LogStatistic> selectRolledRangeSummary(@Param("logType") String logType, @Param("maxId") Long maxId,
+                                                @Param("startTime") LocalDateTime startTime,
+                                                @Param("endTime") LocalDateTime endTime);
+}
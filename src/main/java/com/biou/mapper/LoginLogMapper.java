@@ -1,11 +1,15 @@
 package com.biou.mapper;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.biou.entity.LoginLog;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 登录日志Mapper接口
@@ -31,4 +35,20 @@ public interface LoginLogMapper extends BaseMapper<LoginLog> {
      * @return 记录数量
      */
     long countByLoginTimeBefore(@Param("beforeDate") LocalDateTime beforeDate);
+
+    /**
+     * 批量插入登录日志（多行INSERT）
+     *
+     * @param loginLogs 登录日志列表
+     * @return 插入的记录数
+     */
+    int batchInsert(@Param("loginLogs") List<LoginLog> loginLogs);
+
+    /**
+     * 流式查询登录日志，逐行读取结果集，需在事务内遍历
+     *
+     * @param wrapper 查询条件
+     * @return 结果游标
+     */
+    Cursor<LoginLog> selectCursor(@Param(Constants.WRAPPER) Wrapper<LoginLog> wrapper);
 } 
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.biou.mapper;
 
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.biou.entity.SystemLog;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 系统日志Mapper接口
@@ -31,4 +35,20 @@ public interface SystemLogMapper extends BaseMapper<SystemLog> {
      * @return 记录数量
      */
     long countByCreateTimeBefore(@Param("beforeDate") LocalDateTime beforeDate);
+
+    /**
+     * 批量插入系统日志（多行INSERT）
+     *
+     * @param systemLogs 系统日志列表
+     * @return 插入的记录数
+     */
+    int batchInsert(@Param("systemLogs") List<SystemLog> systemLogs);
+
+    /**
+     * 流式查询系统日志，逐行读取结果集，需在事务内遍历
+     *
+     * @param wrapper 查询条件
+     * @return 结果游标
+     */
+    Cursor<SystemLog> selectCursor(@Param(Constants.WRAPPER) Wrapper<SystemLog> wrapper);
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.biou.project.cache;
+
+/**
+ * 缓存名称
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public final class CacheNames {
+
+    /**
+     * 用户信息，key为用户ID
+     */
+    public static final String USER = "user";
+
+    private CacheNames() {
+    }
+}
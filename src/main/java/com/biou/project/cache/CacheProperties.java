@@ -0,0 +1,181 @@
+package com.biou.project.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 二级缓存配置
+ * 本地一级缓存（Caffeine）在前，Redis二级缓存在后，可按缓存名称单独配置
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@ConfigurationProperties(prefix = "biou.cache")
+public class CacheProperties {
+
+    /**
+     * Redis二级缓存默认过期时间
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+
+    /**
+     * 本地一级缓存默认最大条数
+     */
+    private long localMaxSize = 10000;
+
+    /**
+     * 本地一级缓存默认过期时间，应短于Redis过期时间
+     */
+    private Duration localTtl = Duration.ofSeconds(60);
+
+    /**
+     * 空值缓存过期时间，用于拦截不存在数据的重复查询，为0时不缓存空值
+     */
+    private Duration nullTtl = Duration.ofSeconds(60);
+
+    /**
+     * 过期时间随机浮动比例，避免同一批写入的缓存同时过期
+     */
+    private double ttlJitter = 0.1;
+
+    /**
+     * 按缓存名称的单独配置，未配置的项使用默认值
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    /**
+     * 获取指定缓存的配置，合并默认值
+     */
+    public Spec resolve(String cacheName) {
+        Spec custom = caches.get(cacheName);
+        Spec spec = new Spec();
+        spec.setTtl(custom != null && custom.getTtl() != null ? custom.getTtl() : ttl);
+        spec.setLocalMaxSize(custom != null && custom.getLocalMaxSize() != null ? custom.getLocalMaxSize() : localMaxSize);
+        spec.setLocalTtl(custom != null && custom.getLocalTtl() != null ? custom.getLocalTtl() : localTtl);
+        spec.setNullTtl(custom != null && custom.getNullTtl() != null ? custom.getNullTtl() : nullTtl);
+        spec.setTtlJitter(custom != null && custom.getTtlJitter() != null ? custom.getTtlJitter() : ttlJitter);
+        return spec;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getLocalMaxSize() {
+        return localMaxSize;
+    }
+
+    public void setLocalMaxSize(long localMaxSize) {
+        this.localMaxSize = localMaxSize;
+    }
+
+    public Duration getLocalTtl() {
+        return localTtl;
+    }
+
+    public void setLocalTtl(Duration localTtl) {
+        this.localTtl = localTtl;
+    }
+
+    public Duration getNullTtl() {
+        return nullTtl;
+    }
+
+    public void setNullTtl(Duration nullTtl) {
+        this.nullTtl = nullTtl;
+    }
+
+    public double getTtlJitter() {
+        return ttlJitter;
+    }
+
+    public void setTtlJitter(double ttlJitter) {
+        this.ttlJitter = ttlJitter;
+    }
+
+    public Map<String, Spec> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Spec> caches) {
+        this.caches = caches;
+    }
+
+    /**
+     * 单个缓存的配置
+     */
+    public static class Spec {
+
+        /**
+         * Redis二级缓存过期时间
+         */
+        private Duration ttl;
+
+        /**
+         * 本地一级缓存最大条数
+         */
+        private Long localMaxSize;
+
+        /**
+         * 本地一级缓存过期时间
+         */
+        private Duration localTtl;
+
+        /**
+         * 空值缓存过期时间
+         */
+        private Duration nullTtl;
+
+        /**
+         * 过期时间随机浮动比例
+         */
+        private Double ttlJitter;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Long getLocalMaxSize() {
+            return localMaxSize;
+        }
+
+        public void setLocalMaxSize(Long localMaxSize) {
+            this.localMaxSize = localMaxSize;
+        }
+
+        public Duration getLocalTtl() {
+            return localTtl;
+        }
+
+        public void setLocalTtl(Duration localTtl) {
+            this.localTtl = localTtl;
+        }
+
+        public Duration getNullTtl() {
+            return nullTtl;
+        }
+
+        public void setNullTtl(Duration nullTtl) {
+            this.nullTtl = nullTtl;
+        }
+
+        public Double getTtlJitter() {
+            return ttlJitter;
+        }
+
+        public void setTtlJitter(Double ttlJitter) {
+            this.ttlJitter = ttlJitter;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.biou.project.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis值编解码器
+ * 实现可直接作为RedisTemplate的值序列化器替换
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface RedisValueCodec extends RedisSerializer<Object> {
+
+    /**
+     * 注册可编码的类型
+     *
+     * @param typeId        类型ID，写入数据头部代替类名，一经使用不可更改
+     * @param type          类型
+     * @param schemaVersion 结构版本，类型字段发生不兼容变化时递增；读取到其他版本的数据按缓存未命中处理
+     */
+    void register(int typeId, Class<?> type, int schemaVersion);
+}
@@ -0,0 +1,319 @@
+package com.biou.project.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 二级缓存
+ * 读取依次查询本地缓存、Redis，Redis命中后回填本地缓存；写入和删除同时作用于两级，
+ * 显式写入和删除（@CachePut/@CacheEvict）通知其他节点删除本地缓存，未命中加载的回填不通知。
+ * Redis异常时降级为仅使用本地缓存，不影响业务。
+ * 未命中时同一key在本节点只有一个线程执行加载，其余线程等待其结果；
+ * 加载结果为空时缓存空值（nullTtl），过期时间按比例随机浮动
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredCache.class);
+
+    /**
+     * Redis中表示空值的标记
+     */
+    private static final String NULL_MARKER = "__cache_null__";
+
+    private final String name;
+
+    /**
+     * 本地缓存的key统一转为字符串，与Redis key及失效通知保持一致
+     */
+    private final Cache<String, Object> localCache;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final CacheProperties.Spec spec;
+
+    private final TieredCacheManager cacheManager;
+
+    private final LongAdder localHits = new LongAdder();
+
+    private final LongAdder redisHits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder coalescedLoads = new LongAdder();
+
+    /**
+     * 正在加载的key，同一key的并发未命中共享一次加载
+     */
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    public TieredCache(String name, CacheProperties.Spec spec, RedisTemplate<String, Object> redisTemplate,
+                       TieredCacheManager cacheManager) {
+        super(!spec.getNullTtl().isZero());
+        this.name = name;
+        this.spec = spec;
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+        long localTtlNanos = spec.getLocalTtl().toNanos();
+        long nullTtlNanos = Math.min(localTtlNanos, spec.getNullTtl().toNanos());
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaxSize())
+                .expireAfter(new Expiry<String, Object>() {
+                    @Override
+                    public long expireAfterCreate(String key, Object value, long currentTime) {
+                        return value == NullValue.INSTANCE ? nullTtlNanos : localTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localCache.getIfPresent(String.valueOf(key));
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        try {
+            value = redisTemplate.opsForValue().get(redisKey(key));
+        } catch (Exception e) {
+            logger.warn("读取Redis缓存失败，缓存：{}，key：{}，原因：{}", name, key, e.getMessage());
+            value = null;
+        }
+        if (value != null) {
+            redisHits.increment();
+            if (NULL_MARKER.equals(value)) {
+                value = NullValue.INSTANCE;
+            }
+            localCache.put(String.valueOf(key), value);
+            return value;
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+
+        String localKey = String.valueOf(key);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loading.putIfAbsent(localKey, future);
+        if (existing != null) {
+            coalescedLoads.increment();
+            try {
+                return (T) fromStoreValue(existing.get());
+            } catch (ExecutionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        try {
+            // 注册前可能刚有其他线程完成加载
+            Object cached = localCache.getIfPresent(localKey);
+            if (cached != null) {
+                future.complete(cached);
+                return (T) fromStoreValue(cached);
+            }
+
+            T loaded = valueLoader.call();
+            if (loaded != null || isAllowNullValues()) {
+                // 未命中回填，数据未变化，无需通知其他节点
+                store(key, loaded);
+            }
+            future.complete(loaded == null && isAllowNullValues() ? NullValue.INSTANCE : loaded);
+            return loaded;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loading.remove(localKey, future);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(key, value);
+        cacheManager.publishEvict(name, key);
+    }
+
+    /**
+     * 写入两级缓存，不发送失效通知
+     */
+    private void store(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        boolean isNull = storeValue == NullValue.INSTANCE;
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), isNull ? NULL_MARKER : storeValue,
+                    jitter(isNull ? spec.getNullTtl() : spec.getTtl()), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.warn("写入Redis缓存失败，缓存：{}，key：{}，原因：{}", name, key, e.getMessage());
+        }
+        localCache.put(String.valueOf(key), storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            redisTemplate.delete(redisKey(key));
+        } catch (Exception e) {
+            logger.warn("删除Redis缓存失败，缓存：{}，key：{}，原因：{}", name, key, e.getMessage());
+        }
+        localCache.invalidate(String.valueOf(key));
+        cacheManager.publishEvict(name, key);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> scanKeys(connection));
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            logger.warn("清空Redis缓存失败，缓存：{}，原因：{}", name, e.getMessage());
+        }
+        localCache.invalidateAll();
+        cacheManager.publishClear(name);
+    }
+
+    /**
+     * 仅删除本地缓存，用于处理其他节点的失效通知
+     */
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * 仅清空本地缓存，用于处理其他节点的失效通知
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 缓存命中统计
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("localHits", localHits.sum());
+        statistics.put("redisHits", redisHits.sum());
+        statistics.put("misses", misses.sum());
+        statistics.put("coalescedLoads", coalescedLoads.sum());
+        statistics.put("localSize", localCache.estimatedSize());
+        return statistics;
+    }
+
+    /**
+     * 注册命中统计指标
+     */
+    void bindMetrics(MeterRegistry registry) {
+        bindGets(registry, "local", "hit", localHits);
+        bindGets(registry, "redis", "hit", redisHits);
+        bindGets(registry, "redis", "miss", misses);
+        FunctionCounter.builder("biou.cache.loads.coalesced", coalescedLoads, LongAdder::sum)
+                .description("与其他线程合并的缓存加载次数")
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("biou.cache.size", localCache, Cache::estimatedSize)
+                .description("本地缓存条目数")
+                .tag("cache", name)
+                .tag("level", "local")
+                .register(registry);
+    }
+
+    private void bindGets(MeterRegistry registry, String level, String result, LongAdder counter) {
+        FunctionCounter.builder("biou.cache.gets", counter, LongAdder::sum)
+                .description("缓存读取次数")
+                .tag("cache", name)
+                .tag("level", level)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 过期时间在 [ttl, ttl * (1 + ttlJitter)) 之间随机取值
+     */
+    private long jitter(Duration ttl) {
+        long millis = ttl.toMillis();
+        double ratio = spec.getTtlJitter();
+        if (ratio <= 0 || millis <= 0) {
+            return millis;
+        }
+        return millis + (long) (ThreadLocalRandom.current().nextDouble(ratio) * millis);
+    }
+
+    private String redisKey(Object key) {
+        return name + "::" + key;
+    }
+
+    private List<String> scanKeys(RedisConnection connection) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(name + "::*").count(1000).build();
+        try (Cursor<byte[]> cursor = connection.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+            }
+        }
+        return keys;
+    }
+}
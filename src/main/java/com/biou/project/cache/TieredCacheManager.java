@@ -0,0 +1,134 @@
+package com.biou.project.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 二级缓存管理器
+ * 按名称创建二级缓存，通过Redis发布订阅在节点间同步本地缓存失效；
+ * 开启事务感知后，事务内的写入和失效在提交后才执行，避免并发读取把未提交前的旧数据重新载入缓存；
+ * 作为MeterBinder注册各缓存的命中指标，之后新建的缓存在创建时注册
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class TieredCacheManager extends AbstractTransactionSupportingCacheManager implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TieredCacheManager.class);
+
+    private static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String ACTION_EVICT = "E";
+
+    private static final String ACTION_CLEAR = "C";
+
+    /**
+     * 节点标识，忽略本节点发出的失效通知
+     */
+    private final String nodeId = UUID.randomUUID().toString().replace("-", "");
+
+    private final ConcurrentMap<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    private final CacheProperties cacheProperties;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile MeterRegistry meterRegistry;
+
+    public TieredCacheManager(CacheProperties cacheProperties, RedisTemplate<String, Object> redisTemplate,
+                              StringRedisTemplate stringRedisTemplate,
+                              RedisMessageListenerContainer listenerContainer) {
+        this.cacheProperties = cacheProperties;
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            TieredCache created = new TieredCache(cacheName, cacheProperties.resolve(cacheName), redisTemplate, this);
+            MeterRegistry registry = meterRegistry;
+            if (registry != null) {
+                created.bindMetrics(registry);
+            }
+            return created;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+        caches.values().forEach(cache -> cache.bindMetrics(registry));
+    }
+
+    /**
+     * 各缓存命中统计
+     */
+    public Map<String, Map<String, Long>> getStatistics() {
+        Map<String, Map<String, Long>> statistics = new LinkedHashMap<>();
+        caches.forEach((name, cache) -> statistics.put(name, cache.getStatistics()));
+        return statistics;
+    }
+
+    void publishEvict(String cacheName, Object key) {
+        publish(ACTION_EVICT + "|" + cacheName + "|" + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(ACTION_CLEAR + "|" + cacheName + "|");
+    }
+
+    private void publish(String body) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + body);
+        } catch (Exception e) {
+            logger.warn("发送缓存失效通知失败，其他节点本地缓存将在过期后刷新：{}", e.getMessage());
+        }
+    }
+
+    /**
+     * 处理失效通知，格式：节点标识|动作|缓存名称|key
+     */
+    private void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TieredCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (ACTION_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
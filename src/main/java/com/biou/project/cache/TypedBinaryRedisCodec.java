@@ -0,0 +1,194 @@
+package com.biou.project.cache;
+
+import com.alibaba.fastjson2.JSONB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 按注册类型编码的二进制Redis值编解码器
+ * <pre>
+ * 数据格式：魔数(1) | 格式版本(1) | 标志位(1) | 类型ID(2) | 结构版本(1) | JSONB数据
+ * </pre>
+ * 数据体使用fastjson2 JSONB按字段名编码，不写入类名，新增或删除字段可前后兼容；
+ * 超过阈值的数据使用Deflate压缩。未注册的类型以及升级前写入的JSON数据由兜底序列化器处理，
+ * 无法识别的类型ID、更高的格式版本或与当前注册不一致的结构版本按缓存未命中处理，
+ * 不提供跨结构版本的升级转换
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class TypedBinaryRedisCodec implements RedisValueCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypedBinaryRedisCodec.class);
+
+    private static final byte MAGIC = (byte) 0xB1;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte FLAG_DEFLATE = 0x01;
+
+    private static final int HEADER_LENGTH = 6;
+
+    private final Map<Class<?>, TypeEntry> typesByClass = new ConcurrentHashMap<>();
+
+    private final Map<Integer, TypeEntry> typesById = new ConcurrentHashMap<>();
+
+    private final RedisSerializer<Object> fallback;
+
+    private final int compressThreshold;
+
+    /**
+     * @param fallback          未注册类型及旧数据使用的序列化器
+     * @param compressThreshold 数据体达到该字节数时压缩，小于等于0时不压缩
+     */
+    public TypedBinaryRedisCodec(RedisSerializer<Object> fallback, int compressThreshold) {
+        this.fallback = fallback;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public void register(int typeId, Class<?> type, int schemaVersion) {
+        if (typeId <= 0 || typeId > 0xFFFF || schemaVersion < 0 || schemaVersion > 0xFF) {
+            throw new IllegalArgumentException("Invalid type registration: " + typeId + "/" + schemaVersion);
+        }
+        TypeEntry entry = new TypeEntry(typeId, type, schemaVersion);
+        TypeEntry existing = typesById.putIfAbsent(typeId, entry);
+        if (existing != null && existing.type != type) {
+            throw new IllegalStateException("Type id " + typeId + " already registered for " + existing.type.getName());
+        }
+        typesByClass.put(type, entry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        TypeEntry entry = typesByClass.get(value.getClass());
+        if (entry == null) {
+            return fallback.serialize(value);
+        }
+
+        byte[] body = JSONB.toBytes(value);
+        byte flags = 0;
+        if (compressThreshold > 0 && body.length >= compressThreshold) {
+            byte[] compressed = deflate(body);
+            if (compressed.length < body.length) {
+                body = compressed;
+                flags |= FLAG_DEFLATE;
+            }
+        }
+
+        byte[] bytes = new byte[HEADER_LENGTH + body.length];
+        bytes[0] = MAGIC;
+        bytes[1] = FORMAT_VERSION;
+        bytes[2] = flags;
+        bytes[3] = (byte) (entry.typeId >>> 8);
+        bytes[4] = (byte) entry.typeId;
+        bytes[5] = (byte) entry.schemaVersion;
+        System.arraycopy(body, 0, bytes, HEADER_LENGTH, body.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        // JSON文本不会以0xB1开头，据此区分旧数据
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        if (bytes[1] > FORMAT_VERSION) {
+            logger.warn("无法识别的缓存数据格式版本：{}，按未命中处理", bytes[1]);
+            return null;
+        }
+        int typeId = ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF);
+        TypeEntry entry = typesById.get(typeId);
+        if (entry == null) {
+            logger.warn("未注册的缓存数据类型ID：{}，按未命中处理", typeId);
+            return null;
+        }
+        int schemaVersion = bytes[5] & 0xFF;
+        if (schemaVersion != entry.schemaVersion) {
+            // 结构版本变化表示字段不兼容，不做升级转换，丢弃旧数据由调用方重新加载
+            logger.debug("缓存数据结构版本不一致，类型：{}，数据版本：{}，当前版本：{}，按未命中处理",
+                    entry.type.getSimpleName(), schemaVersion, entry.schemaVersion);
+            return null;
+        }
+
+        byte[] body = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        if ((bytes[2] & FLAG_DEFLATE) != 0) {
+            body = inflate(body);
+        }
+        try {
+            return JSONB.parseObject(body, entry.type);
+        } catch (Exception e) {
+            throw new SerializationException("Could not deserialize " + entry.type.getName(), e);
+        }
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 16);
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed cache data");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupted compressed cache data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class TypeEntry {
+
+        private final int typeId;
+
+        private final Class<?> type;
+
+        private final int schemaVersion;
+
+        private TypeEntry(int typeId, Class<?> type, int schemaVersion) {
+            this.typeId = typeId;
+            this.type = type;
+            this.schemaVersion = schemaVersion;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.biou.project.config;
+
+import com.biou.project.util.DingTalkTransport;
+import com.biou.project.util.HttpClientDingTalkTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 钉钉接口配置类
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Configuration
+public class DingTalkConfig {
+
+    /**
+     * 钉钉接口传输层，容器关闭时释放连接池
+     * 已定义其他DingTalkTransport时（如测试桩）不再创建
+     *
+     * @return DingTalkTransport实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(DingTalkTransport.class)
+    public HttpClientDingTalkTransport dingTalkTransport(
+            @Value("${dingtalk.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${dingtalk.http.read-timeout-ms:5000}") int readTimeoutMs,
+            @Value("${dingtalk.http.connection-request-timeout-ms:1000}") int connectionRequestTimeoutMs,
+            @Value("${dingtalk.http.max-connections:20}") int maxConnections,
+            @Value("${dingtalk.http.idle-timeout-seconds:60}") long idleTimeoutSeconds) {
+        return new HttpClientDingTalkTransport(connectTimeoutMs, readTimeoutMs, connectionRequestTimeoutMs,
+                maxConnections, idleTimeoutSeconds);
+    }
+}
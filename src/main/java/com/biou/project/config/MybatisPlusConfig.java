@@ -3,6 +3,8 @@ package com.biou.project.config;
 import com.baomidou.mybatisplus.annotation.DbType;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,4 +26,12 @@ public class MybatisPlusConfig {
         interceptor.addInnerInterceptor(new PaginationInnerInterceptor(DbType.MYSQL));
         return interceptor;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Mapper语句耗时统计插件
+     */
+    @Bean
+    public MybatisMetricsInterceptor mybatisMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new MybatisMetricsInterceptor(meterRegistryProvider);
+    }
+}
@@ -1,5 +1,6 @@
 package com.biou.project.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -14,14 +15,20 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class PasswordEncoderConfig {
 
+    /**
+     * BCrypt强度，调高后已有用户在下次登录成功时按新强度重新加密
+     */
+    @Value("${biou.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     /**
      * 密码编码器Bean
-     * 使用BCrypt算法，安全强度为10
+     * 使用BCrypt算法，安全强度默认为10
      *
      * @return PasswordEncoder实例
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 } 
\ No newline at end of file
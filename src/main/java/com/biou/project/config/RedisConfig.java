@@ -3,12 +3,21 @@ package com.biou.project.config;
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONReader;
 import com.alibaba.fastjson2.JSONWriter;
+import com.biou.project.cache.CacheProperties;
+import com.biou.project.cache.RedisValueCodec;
+import com.biou.project.cache.TieredCacheManager;
+import com.biou.project.cache.TypedBinaryRedisCodec;
+import com.biou.project.vo.UserVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -23,16 +32,15 @@ import java.nio.charset.Charset;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class RedisConfig extends CachingConfigurerSupport {
 
     @Bean
-    @SuppressWarnings(value = {"unchecked", "rawtypes"})
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisValueCodec serializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        FastJson2JsonRedisSerializer serializer = new FastJson2JsonRedisSerializer(Object.class);
-
         // 使用StringRedisSerializer来序列化和反序列化redis的key值
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(serializer);
@@ -45,6 +53,44 @@ public class RedisConfig extends CachingConfigurerSupport {
         return template;
     }
 
+    /**
+     * Redis值编解码器，已注册类型以二进制格式存储，其余类型及旧数据仍使用JSON
+     * 类型ID写入缓存数据，一经使用不可更改或复用
+     */
+    @Bean
+    @SuppressWarnings(value = {"unchecked", "rawtypes"})
+    public RedisValueCodec redisValueCodec(@Value("${biou.cache.codec.compress-threshold:1024}") int compressThreshold) {
+        TypedBinaryRedisCodec codec = new TypedBinaryRedisCodec(
+                new FastJson2JsonRedisSerializer(Object.class), compressThreshold);
+        codec.register(1, UserVO.class, 1);
+        return codec;
+    }
+
+    /**
+     * 二级缓存管理器，本地Caffeine缓存在前，Redis在后
+     */
+    @Bean
+    public TieredCacheManager cacheManager(CacheProperties cacheProperties,
+                                           RedisTemplate<String, Object> redisTemplate,
+                                           StringRedisTemplate stringRedisTemplate,
+                                           RedisMessageListenerContainer redisMessageListenerContainer) {
+        TieredCacheManager cacheManager = new TieredCacheManager(cacheProperties, redisTemplate,
+                stringRedisTemplate, redisMessageListenerContainer);
+        // @CacheEvict等注解在事务方法中生效时，推迟到事务提交后执行
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    /**
+     * Redis消息监听容器，用于JWT黑名单等跨节点同步
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     /**
      * FastJson2JsonRedisSerializer序列化类
      */
@@ -2,10 +2,12 @@ package com.biou.project.config;
 
 import com.biou.project.filter.JwtAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
@@ -15,6 +17,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.Arrays;
 
 /**
@@ -25,12 +28,19 @@ import java.util.Arrays;
  */
 @Configuration
 @EnableWebSecurity
+@EnableGlobalMethodSecurity(prePostEnabled = true)
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     @Autowired
     @Lazy
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /**
+     * 独立的管理端口，未配置时为-1，actuator端点随业务端口一起要求认证
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         http
@@ -42,15 +52,23 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers("/api/auth/**").permitAll()
                 .antMatchers(HttpMethod.GET, "/api/*/validate").permitAll()
                 .antMatchers("/actuator/health").permitAll()
+                .requestMatchers(this::isManagementPortRequest).permitAll()
                 .antMatchers("/favicon.ico").permitAll()
                 .antMatchers("/error").permitAll()
-                .anyRequest().authenticated()
+                .anyRequest().access("isAuthenticated() and @urlPermission.check(authentication, request)")
             .and()
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         http.headers().frameOptions().deny();
     }
 
+    /**
+     * 管理端口只在本机或内网开放，其上的actuator请求不再要求登录；未配置独立管理端口时actuator端点同样需要认证
+     */
+    private boolean isManagementPortRequest(HttpServletRequest request) {
+        return managementPort > 0 && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -0,0 +1,109 @@
+package com.biou.project.controller;
+
+import com.biou.project.exception.BusinessException;
+import com.biou.project.security.PermissionTree;
+import com.biou.project.service.PermissionTreeService;
+import com.biou.project.vo.PermissionVO;
+import com.biou.project.vo.Result;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 权限Controller
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/permission")
+@Validated
+public class PermissionController {
+
+    @Autowired
+    private PermissionTreeService permissionTreeService;
+
+    /**
+     * 获取权限树，携带If-None-Match且与当前版本一致时返回304
+     *
+     * @param ifNoneMatch 客户端缓存的ETag
+     * @return 树形权限列表
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<Result<List<PermissionVO>>> getPermissionTree(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        PermissionTree tree = permissionTreeService.getTree();
+        return withEtag(tree, ifNoneMatch, tree.getRoots());
+    }
+
+    /**
+     * 获取以指定权限为根的子树
+     *
+     * @param id          权限ID
+     * @param ifNoneMatch 客户端缓存的ETag
+     * @return 子树根节点
+     */
+    @GetMapping("/tree/{id}")
+    public ResponseEntity<Result<PermissionVO>> getPermissionSubtree(
+            @PathVariable @NotNull @Min(1) Long id,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        PermissionTree tree = permissionTreeService.getTree();
+        PermissionVO node = tree.getNode(id);
+        if (node == null) {
+            throw new BusinessException("权限不存在");
+        }
+        return withEtag(tree, ifNoneMatch, node);
+    }
+
+    /**
+     * 获取指定权限的祖先权限ID，从根节点到直接父节点排列
+     *
+     * @param id 权限ID
+     * @return 祖先权限ID列表
+     */
+    @GetMapping("/{id}/ancestors")
+    public Result<List<Long>> getAncestorIds(@PathVariable @NotNull @Min(1) Long id) {
+        return Result.success(new ArrayList<>(requireNode(id).getAncestorIds(id)));
+    }
+
+    /**
+     * 获取指定权限的全部后代权限ID
+     *
+     * @param id 权限ID
+     * @return 后代权限ID列表
+     */
+    @GetMapping("/{id}/descendants")
+    public Result<List<Long>> getDescendantIds(@PathVariable @NotNull @Min(1) Long id) {
+        return Result.success(new ArrayList<>(requireNode(id).getDescendantIds(id)));
+    }
+
+    private PermissionTree requireNode(Long id) {
+        PermissionTree tree = permissionTreeService.getTree();
+        if (tree.getNode(id) == null) {
+            throw new BusinessException("权限不存在");
+        }
+        return tree;
+    }
+
+    private <T> ResponseEntity<Result<T>> withEtag(PermissionTree tree, String ifNoneMatch, T body) {
+        if (tree.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tree.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(tree.getEtag())
+                .body(Result.success(body));
+    }
+}
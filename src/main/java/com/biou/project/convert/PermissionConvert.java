@@ -7,7 +7,9 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 权限转换器
@@ -83,7 +85,7 @@ public class PermissionConvert {
             return new ArrayList<>();
         }
 
-        List<PermissionVO> voList = new ArrayList<>();
+        List<PermissionVO> voList = new ArrayList<>(entities.size());
         for (Permission entity : entities) {
             voList.add(toVO(entity));
         }
@@ -127,8 +129,9 @@ public class PermissionConvert {
 
     /**
      * 构建权限树形结构
+     * 按父权限ID建立子节点索引，单次遍历完成挂接；父权限不在列表中的节点不会出现在树中
      *
-     * @param permissions 权限列表
+     * @param permissions 权限列表，同级节点保持列表中的顺序
      * @return 树形权限列表
      */
     public List<PermissionVO> buildPermissionTree(List<Permission> permissions) {
@@ -137,37 +140,29 @@ public class PermissionConvert {
         }
 
         List<PermissionVO> permissionVOList = toVOList(permissions);
+        Map<Long, List<PermissionVO>> childrenMap = new HashMap<>(permissionVOList.size() * 2);
         List<PermissionVO> tree = new ArrayList<>();
-
-        // 先找到所有根节点
         for (PermissionVO permission : permissionVOList) {
-            if (permission.getParentId() == null || permission.getParentId() == 0) {
-                tree.add(permission);
+            List<PermissionVO> children = childrenMap.get(permission.getId());
+            if (children == null) {
+                children = new ArrayList<>();
+                childrenMap.put(permission.getId(), children);
             }
-        }
+            permission.setChildren(children);
 
-        // 为每个根节点递归构建子树
-        for (PermissionVO root : tree) {
-            buildChildren(root, permissionVOList);
+            Long parentId = permission.getParentId();
+            if (parentId == null || parentId == 0) {
+                tree.add(permission);
+            } else {
+                List<PermissionVO> siblings = childrenMap.get(parentId);
+                if (siblings == null) {
+                    siblings = new ArrayList<>();
+                    childrenMap.put(parentId, siblings);
+                }
+                siblings.add(permission);
+            }
         }
 
         return tree;
     }
-
-    /**
-     * 递归构建子节点
-     *
-     * @param parent      父节点
-     * @param permissions 所有权限
-     */
-    private void buildChildren(PermissionVO parent, List<PermissionVO> permissions) {
-        List<PermissionVO> children = new ArrayList<>();
-        for (PermissionVO permission : permissions) {
-            if (permission.getParentId() != null && permission.getParentId().equals(parent.getId())) {
-                children.add(permission);
-                buildChildren(permission, permissions);
-            }
-        }
-        parent.setChildren(children);
-    }
-} 
\ No newline at end of file
+}
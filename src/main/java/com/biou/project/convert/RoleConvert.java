@@ -75,7 +75,7 @@ public class RoleConvert {
             return new ArrayList<>();
         }
 
-        List<RoleVO> voList = new ArrayList<>();
+        List<RoleVO> voList = new ArrayList<>(entities.size());
         for (Role entity : entities) {
             voList.add(toVO(entity));
         }
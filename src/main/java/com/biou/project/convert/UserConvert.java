@@ -69,7 +69,7 @@ public class UserConvert {
         if (entityList == null || entityList.isEmpty()) {
             return new ArrayList<>();
         }
-        List<UserVO> voList = new ArrayList<>();
+        List<UserVO> voList = new ArrayList<>(entityList.size());
         for (User entity : entityList) {
             voList.add(entityToVO(entity));
         }
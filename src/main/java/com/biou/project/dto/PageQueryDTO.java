@@ -27,6 +27,11 @@ public class PageQueryDTO implements Serializable {
      */
     private Boolean searchCount;
 
+    /**
+     * 游标，游标分页时传入上一页返回的nextCursor，首页为空
+     */
+    private String cursor;
+
     public PageQueryDTO() {
         this.current = 1L;
         this.size = 10L;
@@ -69,12 +74,21 @@ public class PageQueryDTO implements Serializable {
         this.searchCount = searchCount;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
     @Override
     public String toString() {
         return "PageQueryDTO{" +
                 "current=" + current +
                 ", size=" + size +
                 ", searchCount=" + searchCount +
+                ", cursor='" + cursor + '\'' +
                 '}';
     }
 } 
\ No newline at end of file
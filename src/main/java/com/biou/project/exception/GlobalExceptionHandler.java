@@ -1,11 +1,16 @@
 package com.biou.project.exception;
 
 import com.biou.project.vo.Result;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.servlet.http.HttpServletResponse;
+
 /**
  * 全局异常处理器
  *
@@ -26,6 +31,17 @@ public class GlobalExceptionHandler {
         return Result.error(e.getCode(), e.getMessage());
     }
 
+    /**
+     * 处理请求过多异常，过载时快速拒绝，不按错误级别记录
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public Result<Object> handleTooManyRequestsException(TooManyRequestsException e, HttpServletResponse response) {
+        logger.warn("请求过多: {}", e.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return Result.error(e.getCode(), e.getMessage());
+    }
+
     /**
      * 处理系统异常
      */
@@ -0,0 +1,26 @@
+package com.biou.project.exception;
+
+/**
+ * 请求过多异常，以HTTP 429响应，提示客户端稍后重试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 建议的重试等待时间（秒）
+     */
+    private final int retryAfterSeconds;
+
+    public TooManyRequestsException(String message, int retryAfterSeconds) {
+        super(429, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
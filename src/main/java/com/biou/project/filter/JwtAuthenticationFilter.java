@@ -1,24 +1,29 @@
 package com.biou.project.filter;
 
+import com.biou.project.security.PermissionAuthenticationToken;
+import com.biou.project.security.UserPermissionSet;
 import com.biou.project.service.AuthService;
-import com.biou.project.util.JwtUtils;
+import com.biou.project.service.PermissionService;
+import com.biou.project.util.JwtClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT认证过滤器
@@ -31,13 +36,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    @Autowired
-    private JwtUtils jwtUtils;
+    private static final String TOKEN_VALIDATION_METRIC = "biou.auth.token.validation";
 
     @Autowired
     @Lazy
     private AuthService authService;
 
+    @Autowired
+    @Lazy
+    private PermissionService permissionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer validTokenTimer;
+
+    private Timer invalidTokenTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        validTokenTimer = Timer.builder(TOKEN_VALIDATION_METRIC)
+                .description("请求token校验耗时")
+                .tag("outcome", "valid")
+                .register(meterRegistry);
+        invalidTokenTimer = Timer.builder(TOKEN_VALIDATION_METRIC)
+                .description("请求token校验耗时")
+                .tag("outcome", "invalid")
+                .register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
@@ -45,13 +72,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && authService.validateToken(jwt)) {
-                String username = jwtUtils.getUsernameFromToken(jwt);
-                Long userId = jwtUtils.getUserIdFromToken(jwt);
+            JwtClaims claims = StringUtils.hasText(jwt) ? validateToken(jwt) : null;
+            if (claims != null) {
+                String username = claims.getUsername();
+                Long userId = claims.getUserId();
                 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
+                    PermissionAuthenticationToken authentication =
+                        new PermissionAuthenticationToken(userId, loadPermissionSet(userId));
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     
                     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -67,6 +95,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 校验token并记录耗时
+     */
+    private JwtClaims validateToken(String jwt) {
+        long start = System.nanoTime();
+        JwtClaims claims = authService.getValidClaims(jwt);
+        (claims != null ? validTokenTimer : invalidTokenTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
+    /**
+     * 加载用户权限集，失败时不影响认证，权限判断时再次加载
+     */
+    private UserPermissionSet loadPermissionSet(Long userId) {
+        try {
+            return permissionService.getPermissionSet(userId);
+        } catch (Exception e) {
+            logger.warn("加载用户权限集失败，用户ID：{}，原因：{}", userId, e.getMessage());
+            return null;
+        }
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
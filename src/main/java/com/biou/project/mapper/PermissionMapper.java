@@ -32,6 +32,14 @@ public interface PermissionMapper extends BaseMapper<Permission> {
      */
     List<Permission> selectPermissionsByUserId(@Param("userId") Long userId);
 
+    /**
+     * 根据用户ID查询有效权限ID，用于编译用户权限集
+     *
+     * @param userId 用户ID
+     * @return 权限ID列表
+     */
+    List<Long> selectPermissionIdsByUserId(@Param("userId") Long userId);
+
     /**
      * 根据权限编码查询权限
      *
@@ -45,6 +53,8 @@ public interface PermissionMapper extends BaseMapper<Permission> {
      *
      * @param parentId 父权限ID
      * @return 子权限列表
+     * @deprecated 逐层查询会产生N+1次查询，整棵权限树请使用 {@link com.biou.project.service.PermissionTreeService}
      */
+    @Deprecated
     List<Permission> selectPermissionsByParentId(@Param("parentId") Long parentId);
 } 
\ No newline at end of file
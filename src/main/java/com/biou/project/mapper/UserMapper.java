@@ -3,6 +3,9 @@ package com.biou.project.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.biou.project.entity.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * 用户Mapper接口
@@ -24,7 +27,35 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface UserMapper extends BaseMapper<User> {
-    
-    // 如果需要复杂的自定义SQL查询，可以在这里添加方法并在XML中实现
-    // 目前使用MyBatis-Plus的基础方法已经足够满足需求
+
+    /**
+     * 一次查询出用户名、邮箱或手机号与给定值重复的未删除用户
+     *
+     * @param username 用户名
+     * @param email    邮箱
+     * @param phone    手机号
+     * @return 重复的用户，只包含id、username、email、phone
+     */
+    List<User> selectUniqueConflicts(@Param("username") String username,
+                                     @Param("email") String email,
+                                     @Param("phone") String phone);
+
+    /**
+     * 按id顺序分批查询未删除用户的唯一字段
+     *
+     * @param lastId 上一批最后的id，首批传0
+     * @param limit  批大小
+     * @return 用户，只包含id、username、email、phone
+     */
+    List<User> selectUniqueKeysAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * 查询等于基础用户名或以“基础用户名_”开头的用户名，包含已删除用户
+     *
+     * @param username       基础用户名
+     * @param suffixedPrefix 已转义LIKE通配符的“基础用户名_”
+     * @return 用户名列表
+     */
+    List<String> selectUsernamesByPrefix(@Param("username") String username,
+                                         @Param("suffixedPrefix") String suffixedPrefix);
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package com.biou.project.security;
+
+import com.biou.project.exception.BusinessException;
+import com.biou.project.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 密码哈希执行器
+ * BCrypt计算在按CPU核数限定的专用线程池中执行，等待队列已满时直接拒绝，
+ * 避免登录洪峰占满请求线程拖慢其他接口
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private static final String HASH_METRIC = "biou.auth.password.hash";
+
+    private static final String BUSY_MESSAGE = "登录请求过多，请稍后重试";
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * 哈希线程数，0表示使用CPU核数
+     */
+    @Value("${biou.password.hash.threads:0}")
+    private int threads;
+
+    /**
+     * 等待队列长度，队列已满时拒绝新的请求
+     */
+    @Value("${biou.password.hash.queue-capacity:64}")
+    private int queueCapacity;
+
+    /**
+     * 请求线程等待哈希结果的最长时间（毫秒）
+     */
+    @Value("${biou.password.hash.timeout-ms:5000}")
+    private long timeoutMs;
+
+    /**
+     * 拒绝时建议客户端的重试等待时间（秒）
+     */
+    @Value("${biou.password.hash.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    private Timer encodeTimer;
+
+    private Timer matchesTimer;
+
+    private Timer queueWaitTimer;
+
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        encodeTimer = Timer.builder(HASH_METRIC)
+                .description("密码哈希计算耗时")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        matchesTimer = Timer.builder(HASH_METRIC)
+                .description("密码哈希计算耗时")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("biou.auth.password.queue.wait")
+                .description("密码哈希任务排队耗时")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("biou.auth.password.rejected")
+                .description("等待队列已满或等待超时被拒绝的密码哈希请求数")
+                .register(meterRegistry);
+        Gauge.builder("biou.auth.password.queue.size", executor, pool -> pool.getQueue().size())
+                .description("密码哈希等待队列长度")
+                .register(meterRegistry);
+        logger.info("密码哈希线程池初始化完成，线程数：{}，队列长度：{}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 加密密码
+     *
+     * @param rawPassword 明文密码
+     * @return 哈希值
+     */
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 校验密码
+     *
+     * @param rawPassword     明文密码
+     * @param encodedPassword 哈希值
+     * @return 是否匹配
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 哈希值的强度是否低于当前配置，需要重新加密
+     *
+     * @param encodedPassword 哈希值
+     * @return 是否需要重新加密
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        long submitTime = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submitTime, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException("密码校验被中断");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new BusinessException(500, "密码校验失败", cause);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.biou.project.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Collections;
+
+/**
+ * 携带用户权限集的认证信息
+ * principal仍为用户ID，权限判断直接使用权限集，不再逐个比对GrantedAuthority
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class PermissionAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient UserPermissionSet permissionSet;
+
+    public PermissionAuthenticationToken(Long userId, UserPermissionSet permissionSet) {
+        super(userId, null, Collections.emptyList());
+        this.permissionSet = permissionSet;
+    }
+
+    /**
+     * 用户权限集，加载失败时为null
+     */
+    public UserPermissionSet getPermissionSet() {
+        return permissionSet;
+    }
+}
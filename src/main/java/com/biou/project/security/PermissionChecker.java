@@ -0,0 +1,58 @@
+package com.biou.project.security;
+
+import com.biou.project.service.PermissionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 权限判断入口，供方法注解使用，例如：
+ * <pre>
+ * &#64;PreAuthorize("&#64;perm.has('user:list')")
+ * </pre>
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component("perm")
+public class PermissionChecker {
+
+    @Autowired
+    private PermissionService permissionService;
+
+    /**
+     * 当前用户是否拥有指定权限
+     *
+     * @param permissionCode 权限编码
+     * @return 是否拥有
+     */
+    public boolean has(String permissionCode) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof PermissionAuthenticationToken) {
+            PermissionAuthenticationToken token = (PermissionAuthenticationToken) authentication;
+            if (token.getPermissionSet() != null) {
+                return permissionService.hasPermission(token.getPermissionSet(), permissionCode);
+            }
+        }
+        if (authentication != null && authentication.getPrincipal() instanceof Long) {
+            return permissionService.hasPermission((Long) authentication.getPrincipal(), permissionCode);
+        }
+        return false;
+    }
+
+    /**
+     * 当前用户是否拥有任一权限
+     *
+     * @param permissionCodes 权限编码
+     * @return 是否拥有
+     */
+    public boolean hasAny(String... permissionCodes) {
+        for (String permissionCode : permissionCodes) {
+            if (has(permissionCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,215 @@
+package com.biou.project.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * URL权限路由索引
+ * 将权限的资源路径编译为按路径段组织的前缀树，匹配耗时只与请求路径段数相关，与权限数量无关。
+ * <p>
+ * 资源路径格式：[HTTP方法 ]路径，例如 "/api/user/*"、"PUT /api/user/{id}/status"。
+ * 路径段支持 "*"（任意单段）、"{变量}"（同 "*"）和 "**"（任意多段，含零段）；未指定方法时匹配所有方法。
+ * 多个模式同时匹配时取最具体的一个：从左到右逐段比较，字面量优先于单段通配，单段通配优先于多段通配；
+ * 指定方法与未指定方法的模式一起参与比较，同样具体时指定方法的优先。
+ * 同一模式对应多个权限时拥有其中任一权限即可访问。构建后不可变，变更时整体重建替换
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public final class PermissionRouteIndex {
+
+    private static final String ANY_METHOD = "*";
+
+    /**
+     * 匹配请求路径段的模式段类型，数值越小越具体
+     */
+    private static final int LITERAL = 0;
+
+    private static final int WILDCARD = 1;
+
+    private static final int MULTI_WILDCARD = 2;
+
+    private static final PermissionRouteIndex EMPTY = new PermissionRouteIndex(new HashMap<>(), 0);
+
+    /**
+     * HTTP方法 -> 前缀树根节点
+     */
+    private final Map<String, Node> roots;
+
+    private final int routeCount;
+
+    private PermissionRouteIndex(Map<String, Node> roots, int routeCount) {
+        this.roots = roots;
+        this.routeCount = routeCount;
+    }
+
+    public static PermissionRouteIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 构建索引
+     *
+     * @param routes 资源路径 -> 权限编码
+     * @return 路由索引
+     */
+    public static PermissionRouteIndex build(List<Map.Entry<String, String>> routes) {
+        Map<String, Node> roots = new HashMap<>();
+        int count = 0;
+        for (Map.Entry<String, String> route : routes) {
+            String resourcePath = route.getKey() == null ? "" : route.getKey().trim();
+            if (resourcePath.isEmpty()) {
+                continue;
+            }
+            String method = ANY_METHOD;
+            int space = resourcePath.indexOf(' ');
+            if (space > 0) {
+                method = resourcePath.substring(0, space).toUpperCase(Locale.ROOT);
+                resourcePath = resourcePath.substring(space + 1).trim();
+            }
+
+            Node node = roots.computeIfAbsent(method, key -> new Node());
+            for (String segment : split(resourcePath)) {
+                if ("**".equals(segment)) {
+                    node = node.multiWildcard == null ? (node.multiWildcard = new Node()) : node.multiWildcard;
+                } else if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                    node = node.wildcard == null ? (node.wildcard = new Node()) : node.wildcard;
+                } else {
+                    node = node.children.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+            if (!node.codes.contains(route.getValue())) {
+                node.codes.add(route.getValue());
+            }
+            count++;
+        }
+        return new PermissionRouteIndex(roots, count);
+    }
+
+    /**
+     * 查询访问请求所需的权限编码
+     *
+     * @param method HTTP方法
+     * @param path   应用内请求路径
+     * @return 所需权限编码，拥有任一即可；未配置权限时返回空列表
+     */
+    public List<String> match(String method, String path) {
+        if (routeCount == 0) {
+            return Collections.emptyList();
+        }
+        List<String> segments = split(path);
+        List<String> codes = null;
+        int[] ranks = new int[segments.size()];
+        Node methodRoot = method == null ? null : roots.get(method.toUpperCase(Locale.ROOT));
+        if (methodRoot != null) {
+            codes = match(methodRoot, segments, 0, ranks);
+        }
+        Node anyRoot = roots.get(ANY_METHOD);
+        if (anyRoot != null) {
+            int[] anyRanks = new int[segments.size()];
+            List<String> anyCodes = match(anyRoot, segments, 0, anyRanks);
+            if (anyCodes != null && (codes == null || compare(anyRanks, ranks) < 0)) {
+                codes = anyCodes;
+            }
+        }
+        return codes == null ? Collections.emptyList() : Collections.unmodifiableList(codes);
+    }
+
+    public int getRouteCount() {
+        return routeCount;
+    }
+
+    /**
+     * 按字面量、单段通配、多段通配的顺序深度优先匹配，首个匹配即为该前缀树中最具体的模式
+     *
+     * @param ranks 匹配成功时记录每个请求路径段由哪类模式段匹配
+     */
+    private static List<String> match(Node node, List<String> segments, int index, int[] ranks) {
+        if (index == segments.size()) {
+            if (!node.codes.isEmpty()) {
+                return node.codes;
+            }
+            // "**" 可以匹配零段
+            return node.multiWildcard != null && !node.multiWildcard.codes.isEmpty() ? node.multiWildcard.codes : null;
+        }
+
+        String segment = segments.get(index);
+        Node literal = node.children.get(segment);
+        if (literal != null) {
+            List<String> codes = match(literal, segments, index + 1, ranks);
+            if (codes != null) {
+                ranks[index] = LITERAL;
+                return codes;
+            }
+        }
+        if (node.wildcard != null) {
+            List<String> codes = match(node.wildcard, segments, index + 1, ranks);
+            if (codes != null) {
+                ranks[index] = WILDCARD;
+                return codes;
+            }
+        }
+        if (node.multiWildcard != null) {
+            // "**" 之后还有路径段时，尝试从后续每个位置继续匹配
+            Node rest = node.multiWildcard;
+            if (rest.children.isEmpty() && rest.wildcard == null && rest.multiWildcard == null) {
+                if (rest.codes.isEmpty()) {
+                    return null;
+                }
+                Arrays.fill(ranks, index, segments.size(), MULTI_WILDCARD);
+                return rest.codes;
+            }
+            for (int i = index; i <= segments.size(); i++) {
+                List<String> codes = match(rest, segments, i, ranks);
+                if (codes != null) {
+                    Arrays.fill(ranks, index, i, MULTI_WILDCARD);
+                    return codes;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 逐段比较两次匹配的具体程度，小于0表示前者更具体
+     */
+    private static int compare(int[] ranks, int[] other) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (ranks[i] != other[i]) {
+                return ranks[i] < other[i] ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int length = path.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private Node wildcard;
+
+        private Node multiWildcard;
+
+        private final List<String> codes = new ArrayList<>(1);
+    }
+}
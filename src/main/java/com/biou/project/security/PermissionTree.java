@@ -0,0 +1,161 @@
+package com.biou.project.security;
+
+import com.biou.project.vo.PermissionVO;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 权限树快照
+ * 按权限数据版本构建后只读共享，同时预计算每个节点的祖先和后代ID集合，
+ * 子树查询和祖先查询无需再遍历整棵树；节点对象被所有请求共享，调用方不得修改
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public final class PermissionTree {
+
+    private final long version;
+
+    private final String etag;
+
+    private final List<PermissionVO> roots;
+
+    private final Map<Long, PermissionVO> nodes;
+
+    private final Map<Long, Set<Long>> ancestors;
+
+    private final Map<Long, Set<Long>> descendants;
+
+    private PermissionTree(long version, String etag, List<PermissionVO> roots, Map<Long, PermissionVO> nodes,
+                           Map<Long, Set<Long>> ancestors, Map<Long, Set<Long>> descendants) {
+        this.version = version;
+        this.etag = etag;
+        this.roots = roots;
+        this.nodes = nodes;
+        this.ancestors = ancestors;
+        this.descendants = descendants;
+    }
+
+    /**
+     * 由已挂接好的根节点构建快照
+     *
+     * @param version 权限数据版本
+     * @param roots   根节点列表
+     * @return 权限树快照
+     */
+    public static PermissionTree of(long version, List<PermissionVO> roots) {
+        Map<Long, PermissionVO> nodes = new HashMap<>();
+        Map<Long, Set<Long>> ancestors = new HashMap<>();
+        Map<Long, Set<Long>> descendants = new HashMap<>();
+        int hash = 1;
+
+        for (PermissionVO root : roots) {
+            // 显式栈深度优先遍历，节点第二次出栈时其子树已处理完，再把后代合并到父节点
+            Deque<PermissionVO> stack = new ArrayDeque<>();
+            Deque<PermissionVO> path = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                PermissionVO node = stack.peek();
+                if (!path.isEmpty() && path.peek() == node) {
+                    stack.pop();
+                    path.pop();
+                    PermissionVO parent = path.peek();
+                    if (parent != null) {
+                        Set<Long> parentDescendants = descendants.get(parent.getId());
+                        parentDescendants.add(node.getId());
+                        parentDescendants.addAll(descendants.get(node.getId()));
+                    }
+                    continue;
+                }
+
+                Set<Long> nodeAncestors = new LinkedHashSet<>();
+                for (Iterator<PermissionVO> it = path.descendingIterator(); it.hasNext(); ) {
+                    nodeAncestors.add(it.next().getId());
+                }
+                nodes.put(node.getId(), node);
+                ancestors.put(node.getId(), nodeAncestors);
+                descendants.put(node.getId(), new LinkedHashSet<>());
+                hash = 31 * hash + Objects.hash(node.getId(), node.getParentId(), node.getSortOrder(),
+                        node.getUpdateTime());
+
+                path.push(node);
+                List<PermissionVO> children = node.getChildren();
+                if (children != null) {
+                    node.setChildren(Collections.unmodifiableList(children));
+                    for (int i = children.size() - 1; i >= 0; i--) {
+                        stack.push(children.get(i));
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<Long, Set<Long>> entry : ancestors.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        for (Map.Entry<Long, Set<Long>> entry : descendants.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        String etag = "\"" + version + "-" + Integer.toHexString(hash) + "\"";
+        return new PermissionTree(version, etag, Collections.unmodifiableList(roots), nodes, ancestors, descendants);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 快照的ETag，由权限数据版本和节点内容摘要组成
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public List<PermissionVO> getRoots() {
+        return roots;
+    }
+
+    /**
+     * 获取节点，节点的children即为其子树
+     *
+     * @param permissionId 权限ID
+     * @return 节点，不在树中时返回null
+     */
+    public PermissionVO getNode(Long permissionId) {
+        return nodes.get(permissionId);
+    }
+
+    /**
+     * 获取祖先权限ID，从根节点到直接父节点排列
+     *
+     * @param permissionId 权限ID
+     * @return 祖先权限ID集合，不在树中时返回空集合
+     */
+    public Set<Long> getAncestorIds(Long permissionId) {
+        Set<Long> ids = ancestors.get(permissionId);
+        return ids != null ? ids : Collections.emptySet();
+    }
+
+    /**
+     * 获取全部后代权限ID，按先序遍历顺序排列
+     *
+     * @param permissionId 权限ID
+     * @return 后代权限ID集合，不在树中时返回空集合
+     */
+    public Set<Long> getDescendantIds(Long permissionId) {
+        Set<Long> ids = descendants.get(permissionId);
+        return ids != null ? ids : Collections.emptySet();
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.biou.project.security;
+
+import com.biou.project.service.PermissionService;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 权限数据变更切面
+ * 用户角色、角色权限、角色、权限数据写入后递增权限数据版本，有事务时在提交后递增
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+public class PermissionVersionAspect {
+
+    @Autowired
+    @Lazy
+    private PermissionService permissionService;
+
+    @Pointcut("target(com.biou.project.mapper.UserRoleMapper) || target(com.biou.project.mapper.RolePermissionMapper)"
+            + " || target(com.biou.project.mapper.RoleMapper) || target(com.biou.project.mapper.PermissionMapper)")
+    public void permissionMapper() {
+    }
+
+    @Pointcut("execution(* insert*(..)) || execution(* update*(..)) || execution(* delete*(..))"
+            + " || execution(* batchInsert*(..))")
+    public void writeOperation() {
+    }
+
+    @AfterReturning("permissionMapper() && writeOperation()")
+    public void afterWrite() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    permissionService.bumpVersion();
+                }
+            });
+        } else {
+            permissionService.bumpVersion();
+        }
+    }
+}
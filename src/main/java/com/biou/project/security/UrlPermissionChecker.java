@@ -0,0 +1,66 @@
+package com.biou.project.security;
+
+import com.biou.project.service.PermissionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+
+/**
+ * URL权限校验
+ * 按权限表中api类型权限的资源路径校验请求，在安全配置中通过
+ * {@code access("@urlPermission.check(authentication, request)")} 使用
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component("urlPermission")
+public class UrlPermissionChecker {
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    @Autowired
+    private PermissionService permissionService;
+
+    /**
+     * 是否启用URL权限校验，启用前请确认用户已分配相应角色
+     */
+    @Value("${biou.permission.url-check-enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 校验当前用户是否可访问请求，请求路径未配置权限时放行
+     *
+     * @param authentication 认证信息
+     * @param request        请求
+     * @return 是否允许访问
+     */
+    public boolean check(Authentication authentication, HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        List<String> requiredCodes = permissionService.getRequiredPermissions(request.getMethod(),
+                URL_PATH_HELPER.getPathWithinApplication(request));
+        if (requiredCodes.isEmpty()) {
+            return true;
+        }
+
+        UserPermissionSet permissionSet = null;
+        if (authentication instanceof PermissionAuthenticationToken) {
+            permissionSet = ((PermissionAuthenticationToken) authentication).getPermissionSet();
+        }
+        if (permissionSet == null && authentication != null && authentication.getPrincipal() instanceof Long) {
+            permissionSet = permissionService.getPermissionSet((Long) authentication.getPrincipal());
+        }
+        for (String code : requiredCodes) {
+            if (permissionService.hasPermission(permissionSet, code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
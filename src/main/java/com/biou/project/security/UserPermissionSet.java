@@ -0,0 +1,126 @@
+package com.biou.project.security;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 用户权限集
+ * 以权限ID为下标的位图，权限判断为一次位运算；不可变，可跨线程共享和缓存
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public final class UserPermissionSet {
+
+    private final long version;
+
+    private final long[] words;
+
+    private UserPermissionSet(long version, long[] words) {
+        this.version = version;
+        this.words = words;
+    }
+
+    /**
+     * 根据权限ID列表构建
+     *
+     * @param version       权限数据版本
+     * @param permissionIds 权限ID
+     * @return 权限集
+     */
+    public static UserPermissionSet of(long version, Collection<Long> permissionIds) {
+        BitSet bits = new BitSet();
+        for (Long permissionId : permissionIds) {
+            if (permissionId != null && permissionId >= 0 && permissionId <= Integer.MAX_VALUE) {
+                bits.set(permissionId.intValue());
+            }
+        }
+        return new UserPermissionSet(version, bits.toLongArray());
+    }
+
+    /**
+     * 从 {@link #encode()} 的结果还原
+     *
+     * @param value 编码值
+     * @return 权限集，格式不正确时返回null
+     */
+    public static UserPermissionSet decode(String value) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf('|');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            long version = Long.parseLong(value.substring(0, separator));
+            byte[] bytes = Base64.getDecoder().decode(value.substring(separator + 1));
+            return new UserPermissionSet(version, BitSet.valueOf(bytes).toLongArray());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 编码为 "版本|Base64位图"，用于存入Redis
+     */
+    public String encode() {
+        return version + "|" + Base64.getEncoder().encodeToString(BitSet.valueOf(words).toByteArray());
+    }
+
+    /**
+     * 是否拥有权限
+     *
+     * @param permissionId 权限ID
+     * @return 是否拥有
+     */
+    public boolean has(long permissionId) {
+        if (permissionId < 0) {
+            return false;
+        }
+        int word = (int) (permissionId >>> 6);
+        return word < words.length && (words[word] & (1L << permissionId)) != 0;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 拥有的权限数量
+     */
+    public int size() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "UserPermissionSet{" +
+                "version=" + version +
+                ", permissions=" + BitSet.valueOf(words) +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserPermissionSet)) {
+            return false;
+        }
+        UserPermissionSet that = (UserPermissionSet) o;
+        return version == that.version && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(version) + Arrays.hashCode(words);
+    }
+}
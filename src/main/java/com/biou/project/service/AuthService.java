@@ -3,6 +3,7 @@ package com.biou.project.service;
 import com.biou.project.dto.DingTalkLoginDTO;
 import com.biou.project.dto.LoginDTO;
 import com.biou.project.dto.TokenRefreshDTO;
+import com.biou.project.util.JwtClaims;
 import com.biou.project.vo.DingTalkLoginUrlVO;
 import com.biou.project.vo.LoginVO;
 
@@ -61,4 +62,12 @@ public interface AuthService {
      * @return 是否有效
      */
     boolean validateToken(String token);
+
+    /**
+     * 验证token并返回其声明，一次解析完成认证所需的全部信息
+     *
+     * @param token JWT token
+     * @return 已验证的声明，token无效或已注销时返回null
+     */
+    JwtClaims getValidClaims(String token);
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.biou.project.service;
+
+import com.biou.project.security.UserPermissionSet;
+
+import java.util.List;
+
+/**
+ * 权限判断服务接口
+ * 用户的有效权限编译为以权限ID为下标的位图，缓存于本地和Redis；
+ * 用户角色、角色权限、角色或权限数据变化时递增权限数据版本，旧版本的缓存随即失效
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface PermissionService {
+
+    /**
+     * 获取用户权限集
+     *
+     * @param userId 用户ID
+     * @return 用户权限集
+     */
+    UserPermissionSet getPermissionSet(Long userId);
+
+    /**
+     * 判断权限集是否包含指定权限编码
+     *
+     * @param permissionSet  用户权限集
+     * @param permissionCode 权限编码
+     * @return 是否拥有权限
+     */
+    boolean hasPermission(UserPermissionSet permissionSet, String permissionCode);
+
+    /**
+     * 判断用户是否拥有指定权限编码
+     *
+     * @param userId         用户ID
+     * @param permissionCode 权限编码
+     * @return 是否拥有权限
+     */
+    boolean hasPermission(Long userId, String permissionCode);
+
+    /**
+     * 查询访问请求所需的权限编码
+     *
+     * @param method HTTP方法
+     * @param path   应用内请求路径
+     * @return 所需权限编码，拥有任一即可；未配置权限时返回空列表
+     */
+    List<String> getRequiredPermissions(String method, String path);
+
+    /**
+     * 获取当前权限数据版本
+     *
+     * @return 权限数据版本
+     */
+    long getVersion();
+
+    /**
+     * 递增权限数据版本，所有节点的用户权限集缓存失效
+     */
+    void bumpVersion();
+}
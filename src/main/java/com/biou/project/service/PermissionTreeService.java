@@ -0,0 +1,20 @@
+package com.biou.project.service;
+
+import com.biou.project.security.PermissionTree;
+
+/**
+ * 权限树服务接口
+ * 一次查询加载全部有效权限并构建树形快照，权限数据版本不变时直接复用
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface PermissionTreeService {
+
+    /**
+     * 获取当前版本的权限树快照
+     *
+     * @return 权限树快照
+     */
+    PermissionTree getTree();
+}
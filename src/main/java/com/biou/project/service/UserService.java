@@ -120,6 +120,14 @@ public interface UserService extends IService<User> {
      */
     User findByDingtalkUnionId(String unionId);
 
+    /**
+     * 分配未被占用的用户名，基础用户名被占用时依次追加 _1、_2 ... 后缀
+     *
+     * @param baseUsername 基础用户名
+     * @return 当前未被占用的用户名，并发时仍可能与其他请求冲突，由插入时的唯一约束兜底
+     */
+    String allocateUsername(String baseUsername);
+
     /**
      * 加密用户密码
      *
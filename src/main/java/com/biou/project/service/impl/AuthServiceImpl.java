@@ -6,16 +6,23 @@ import com.biou.project.dto.LoginDTO;
 import com.biou.project.dto.TokenRefreshDTO;
 import com.biou.project.entity.User;
 import com.biou.project.exception.BusinessException;
+import com.biou.project.exception.TooManyRequestsException;
+import com.biou.project.security.PasswordHasher;
 import com.biou.project.service.AuthService;
 import com.biou.project.service.UserService;
 import com.biou.project.util.DingTalkUtils;
+import com.biou.project.util.JwtBlacklist;
+import com.biou.project.util.JwtClaims;
 import com.biou.project.util.JwtUtils;
+import com.biou.project.util.UserUniquenessFilter;
 import org.springframework.data.redis.core.RedisTemplate;
 import com.biou.project.vo.DingTalkLoginUrlVO;
 import com.biou.project.vo.LoginVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -31,6 +38,8 @@ import java.util.concurrent.TimeUnit;
 @Service
 public class AuthServiceImpl implements AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     @Autowired
     private UserService userService;
 
@@ -40,17 +49,27 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private DingTalkUtils dingTalkUtils;
 
+    @Autowired
+    private JwtBlacklist jwtBlacklist;
+
+    @Autowired
+    private UserUniquenessFilter userUniquenessFilter;
+
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Value("${jwt.expiration:86400}")
     private Long jwtExpiration;
 
     private static final String DINGTALK_STATE_PREFIX = "dingtalk:state:";
-    private static final String JWT_BLACKLIST_PREFIX = "jwt:blacklist:";
+
+    /**
+     * 钉钉首次登录创建用户时用户名冲突的最大尝试次数
+     */
+    private static final int USERNAME_ALLOCATE_ATTEMPTS = 3;
 
     @Override
     public LoginVO login(LoginDTO loginDTO, String clientIp) {
@@ -63,10 +82,11 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException("账户已被禁用");
         }
 
-        if (!passwordEncoder.matches(loginDTO.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(loginDTO.getPassword(), user.getPassword())) {
             throw new BusinessException("用户名或密码错误");
         }
 
+        rehashIfNeeded(user, loginDTO.getPassword());
         updateUserLoginInfo(user, clientIp);
 
         return generateLoginResponse(user);
@@ -141,13 +161,8 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public void logout(String accessToken) {
         try {
-            Long userId = jwtUtils.getUserIdFromToken(accessToken);
-            long expiration = jwtUtils.getExpirationDateFromToken(accessToken).getTime() - System.currentTimeMillis();
-            
-            if (expiration > 0) {
-                redisTemplate.opsForValue().set(JWT_BLACKLIST_PREFIX + accessToken, userId.toString(), 
-                              expiration, TimeUnit.MILLISECONDS);
-            }
+            JwtClaims claims = jwtUtils.parseToken(accessToken);
+            jwtBlacklist.revoke(claims.getTokenId(), claims.getExpirationMillis());
         } catch (Exception e) {
             // 忽略无效token的注销请求
         }
@@ -155,41 +170,64 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
+
+    @Override
+    public JwtClaims getValidClaims(String token) {
         try {
-            if (redisTemplate.hasKey(JWT_BLACKLIST_PREFIX + token)) {
-                return false;
-            }
-            return jwtUtils.validateToken(token);
+            JwtClaims claims = jwtUtils.parseToken(token);
+            return jwtBlacklist.isRevoked(claims.getTokenId()) ? null : claims;
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
     private User createDingTalkUser(String unionId, String nick, String openId) {
-        User user = new User();
-        user.setUsername(generateUniqueUsername(nick));
-        user.setRealName(nick);
-        user.setDingtalkUnionId(unionId);
-        user.setDingtalkUserId(openId);
-        user.setStatus(1);
-        user.setCreateTime(LocalDateTime.now());
-        user.setUpdateTime(LocalDateTime.now());
-        user.setDeleted(0);
-
-        userService.save(user);
-        return user;
-    }
-
-    private String generateUniqueUsername(String nick) {
         String baseUsername = "dingtalk_" + nick.replaceAll("[^a-zA-Z0-9\\u4e00-\\u9fa5]", "");
-        String username = baseUsername;
-        int suffix = 1;
-
-        while (userService.findByUsername(username) != null) {
-            username = baseUsername + "_" + suffix++;
+        for (int attempt = 1; ; attempt++) {
+            User user = new User();
+            user.setUsername(userService.allocateUsername(baseUsername));
+            user.setRealName(nick);
+            user.setDingtalkUnionId(unionId);
+            user.setDingtalkUserId(openId);
+            user.setStatus(1);
+            user.setCreateTime(LocalDateTime.now());
+            user.setUpdateTime(LocalDateTime.now());
+            user.setDeleted(0);
+
+            try {
+                userService.save(user);
+            } catch (DuplicateKeyException e) {
+                // 同一钉钉用户并发首次登录时，以先创建成功的账号为准
+                User existing = userService.findByDingtalkUnionId(unionId);
+                if (existing != null) {
+                    return existing;
+                }
+                // 分配到的用户名已被其他请求占用，重新分配
+                if (attempt >= USERNAME_ALLOCATE_ATTEMPTS) {
+                    throw new BusinessException("生成用户名失败，请重试");
+                }
+                continue;
+            }
+            userUniquenessFilter.add(user);
+            return user;
         }
+    }
 
-        return username;
+    /**
+     * BCrypt强度调高后，在登录成功时按新强度重新加密，随登录信息一起保存
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHasher.encode(rawPassword));
+        } catch (TooManyRequestsException e) {
+            // 繁忙时不影响本次登录，下次登录再重新加密
+            logger.debug("密码哈希繁忙，跳过重新加密: userId={}", user.getId());
+        }
     }
 
     private void updateUserLoginInfo(User user, String clientIp) {
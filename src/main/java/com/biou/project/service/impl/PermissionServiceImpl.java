@@ -0,0 +1,247 @@
+package com.biou.project.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.biou.project.entity.Permission;
+import com.biou.project.mapper.PermissionMapper;
+import com.biou.project.security.PermissionRouteIndex;
+import com.biou.project.security.UserPermissionSet;
+import com.biou.project.service.PermissionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 权限判断服务实现类
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Service
+public class PermissionServiceImpl implements PermissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PermissionServiceImpl.class);
+
+    private static final String VERSION_KEY = "auth:permission:version";
+
+    private static final String VERSION_CHANNEL = "auth:permission:version";
+
+    private static final String USER_PERMISSION_PREFIX = "auth:permission:user:";
+
+    /**
+     * 参与URL权限校验的资源类型
+     */
+    private static final String API_RESOURCE_TYPE = "api";
+
+    @Autowired
+    private PermissionMapper permissionMapper;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${biou.permission.cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${biou.permission.cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    /**
+     * 当前权限数据版本，通过发布订阅和定时同步与Redis保持一致
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    private Cache<Long, UserPermissionSet> localCache;
+
+    /**
+     * 权限编码到权限ID的映射及URL权限路由索引，版本变化后重新加载并整体替换
+     */
+    private final Object codeIndexLock = new Object();
+
+    private volatile CodeIndex codeIndex = new CodeIndex(-1L, Collections.emptyMap(), PermissionRouteIndex.empty());
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> advanceVersion(parseVersion(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(VERSION_CHANNEL));
+        syncVersion();
+    }
+
+    @Override
+    public UserPermissionSet getPermissionSet(Long userId) {
+        long currentVersion = version.get();
+        UserPermissionSet cached = localCache.getIfPresent(userId);
+        if (cached != null && cached.getVersion() == currentVersion) {
+            return cached;
+        }
+
+        UserPermissionSet permissionSet = readRedis(userId, currentVersion);
+        if (permissionSet == null) {
+            List<Long> permissionIds = permissionMapper.selectPermissionIdsByUserId(userId);
+            permissionSet = UserPermissionSet.of(currentVersion, permissionIds);
+            writeRedis(userId, permissionSet);
+        }
+        localCache.put(userId, permissionSet);
+        return permissionSet;
+    }
+
+    @Override
+    public boolean hasPermission(UserPermissionSet permissionSet, String permissionCode) {
+        if (permissionSet == null || !StringUtils.hasText(permissionCode)) {
+            return false;
+        }
+        Long permissionId = getCodeIndex().ids.get(permissionCode);
+        return permissionId != null && permissionSet.has(permissionId);
+    }
+
+    @Override
+    public boolean hasPermission(Long userId, String permissionCode) {
+        return userId != null && hasPermission(getPermissionSet(userId), permissionCode);
+    }
+
+    @Override
+    public List<String> getRequiredPermissions(String method, String path) {
+        return getCodeIndex().routes.match(method, path);
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public void bumpVersion() {
+        try {
+            Long next = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+            if (next != null) {
+                advanceVersion(next);
+                stringRedisTemplate.convertAndSend(VERSION_CHANNEL, String.valueOf(next));
+                return;
+            }
+        } catch (Exception e) {
+            logger.warn("递增权限数据版本失败，仅本节点生效: {}", e.getMessage());
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * 定时从Redis同步版本，补齐丢失的订阅消息
+     */
+    @Scheduled(fixedDelayString = "${biou.permission.version-sync-interval-ms:30000}")
+    public void syncVersion() {
+        try {
+            advanceVersion(parseVersion(stringRedisTemplate.opsForValue().get(VERSION_KEY)));
+        } catch (Exception e) {
+            logger.warn("同步权限数据版本失败: {}", e.getMessage());
+        }
+    }
+
+    private void advanceVersion(long newVersion) {
+        version.accumulateAndGet(newVersion, Math::max);
+    }
+
+    private CodeIndex getCodeIndex() {
+        long currentVersion = version.get();
+        CodeIndex index = codeIndex;
+        if (index.version == currentVersion) {
+            return index;
+        }
+
+        // 同一时间只有一个线程重建，其余线程等待后直接使用新索引
+        synchronized (codeIndexLock) {
+            index = codeIndex;
+            if (index.version == currentVersion) {
+                return index;
+            }
+
+            List<Permission> permissions = permissionMapper.selectList(new LambdaQueryWrapper<Permission>()
+                    .select(Permission::getId, Permission::getPermissionCode, Permission::getResourceType,
+                            Permission::getResourcePath)
+                    .eq(Permission::getDeleted, 0)
+                    .eq(Permission::getStatus, 1));
+            Map<String, Long> ids = new HashMap<>(permissions.size() * 2);
+            List<Map.Entry<String, String>> routes = new ArrayList<>();
+            for (Permission permission : permissions) {
+                ids.put(permission.getPermissionCode(), permission.getId());
+                if (API_RESOURCE_TYPE.equals(permission.getResourceType())
+                        && StringUtils.hasText(permission.getResourcePath())) {
+                    routes.add(new AbstractMap.SimpleImmutableEntry<>(permission.getResourcePath(),
+                            permission.getPermissionCode()));
+                }
+            }
+            index = new CodeIndex(currentVersion, ids, PermissionRouteIndex.build(routes));
+            codeIndex = index;
+            return index;
+        }
+    }
+
+    private UserPermissionSet readRedis(Long userId, long currentVersion) {
+        try {
+            UserPermissionSet permissionSet = UserPermissionSet.decode(
+                    stringRedisTemplate.opsForValue().get(USER_PERMISSION_PREFIX + userId));
+            return permissionSet != null && permissionSet.getVersion() == currentVersion ? permissionSet : null;
+        } catch (Exception e) {
+            logger.warn("读取用户权限集缓存失败，用户ID：{}，原因：{}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long userId, UserPermissionSet permissionSet) {
+        try {
+            stringRedisTemplate.opsForValue().set(USER_PERMISSION_PREFIX + userId, permissionSet.encode(),
+                    ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            logger.warn("写入用户权限集缓存失败，用户ID：{}，原因：{}", userId, e.getMessage());
+        }
+    }
+
+    private static long parseVersion(String value) {
+        try {
+            return StringUtils.hasText(value) ? Long.parseLong(value.trim()) : 0L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static final class CodeIndex {
+
+        private final long version;
+
+        private final Map<String, Long> ids;
+
+        private final PermissionRouteIndex routes;
+
+        private CodeIndex(long version, Map<String, Long> ids, PermissionRouteIndex routes) {
+            this.version = version;
+            this.ids = ids;
+            this.routes = routes;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.biou.project.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.biou.project.convert.PermissionConvert;
+import com.biou.project.entity.Permission;
+import com.biou.project.mapper.PermissionMapper;
+import com.biou.project.security.PermissionTree;
+import com.biou.project.service.PermissionService;
+import com.biou.project.service.PermissionTreeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 权限树服务实现类
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Service
+public class PermissionTreeServiceImpl implements PermissionTreeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PermissionTreeServiceImpl.class);
+
+    @Autowired
+    private PermissionMapper permissionMapper;
+
+    @Autowired
+    private PermissionConvert permissionConvert;
+
+    @Autowired
+    private PermissionService permissionService;
+
+    private final Object treeLock = new Object();
+
+    private volatile PermissionTree tree;
+
+    @Override
+    public PermissionTree getTree() {
+        long currentVersion = permissionService.getVersion();
+        PermissionTree current = tree;
+        if (current != null && current.getVersion() == currentVersion) {
+            return current;
+        }
+
+        // 同一时间只有一个线程重建，其余线程等待后直接使用新快照
+        synchronized (treeLock) {
+            current = tree;
+            if (current != null && current.getVersion() == currentVersion) {
+                return current;
+            }
+
+            long start = System.currentTimeMillis();
+            List<Permission> permissions = permissionMapper.selectList(new LambdaQueryWrapper<Permission>()
+                    .eq(Permission::getDeleted, 0)
+                    .eq(Permission::getStatus, 1)
+                    .orderByAsc(Permission::getSortOrder)
+                    .orderByDesc(Permission::getCreateTime));
+            current = PermissionTree.of(currentVersion, permissionConvert.buildPermissionTree(permissions));
+            tree = current;
+            logger.debug("权限树构建完成，版本：{}，节点数：{}，耗时：{}ms",
+                    currentVersion, current.size(), System.currentTimeMillis() - start);
+            return current;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.biou.project.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.biou.project.cache.CacheNames;
 import com.biou.project.convert.UserConvert;
 import com.biou.project.dto.PageQueryDTO;
 import com.biou.project.dto.UserCreateDTO;
@@ -12,20 +14,24 @@ import com.biou.project.entity.User;
 import com.biou.project.exception.BusinessException;
 import com.biou.project.mapper.UserMapper;
 import com.biou.project.repository.UserRepository;
+import com.biou.project.security.PasswordHasher;
 import com.biou.project.service.UserService;
+import com.biou.project.util.UserUniquenessFilter;
 import com.biou.project.vo.UserVO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
 
 /**
  * 用户Service实现类
@@ -43,32 +49,21 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
     private UserRepository userRepository;
 
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private PasswordHasher passwordHasher;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private CacheManager cacheManager;
 
-    private static final String USER_CACHE_KEY = "user:";
-    private static final long CACHE_EXPIRE_TIME = 30;
+    @Autowired
+    private UserUniquenessFilter userUniquenessFilter;
 
     @Override
+    @CachePut(cacheNames = CacheNames.USER, key = "#result.id")
     public UserVO createUser(UserCreateDTO createDTO) {
         logger.info("创建用户: {}", createDTO);
 
-        // 校验用户名是否已存在
-        if (checkUsernameExists(createDTO.getUsername())) {
-            throw new BusinessException("用户名已存在");
-        }
-
-        // 校验邮箱是否已存在
-        if (checkEmailExists(createDTO.getEmail())) {
-            throw new BusinessException("邮箱已存在");
-        }
-
-        // 校验手机号是否已存在
-        if (checkPhoneExists(createDTO.getPhone())) {
-            throw new BusinessException("手机号已存在");
-        }
+        // 一次查询校验用户名、邮箱、手机号是否已存在
+        checkUnique(createDTO);
 
         // 转换DTO为Entity
         User user = UserConvert.dtoToEntity(createDTO);
@@ -81,14 +76,11 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         if (!saved) {
             throw new BusinessException("创建用户失败");
         }
+        userUniquenessFilter.add(user);
 
         // 转换Entity为VO
         UserVO userVO = UserConvert.entityToVO(user);
 
-        // 缓存用户信息
-        String cacheKey = USER_CACHE_KEY + user.getId();
-        redisTemplate.opsForValue().set(cacheKey, userVO, CACHE_EXPIRE_TIME, TimeUnit.MINUTES);
-
         logger.info("用户创建成功: {}", userVO);
         return userVO;
     }
@@ -97,25 +89,18 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
     public UserVO getUserById(Long id) {
         logger.debug("根据ID查询用户: {}", id);
 
-        // 先从缓存中查询
-        String cacheKey = USER_CACHE_KEY + id;
-        UserVO userVO = (UserVO) redisTemplate.opsForValue().get(cacheKey);
-        if (userVO != null) {
-            logger.debug("从缓存中获取用户信息: {}", userVO);
-            return userVO;
-        }
-
-        // 缓存中没有，从数据库查询
-        User user = userRepository.getById(id);
-        if (user == null || user.getDeleted() == 1) {
+        // 未命中时同一用户只有一个线程查询数据库，不存在的用户缓存空值
+        UserVO userVO = cacheManager.getCache(CacheNames.USER).get(id, () -> {
+            User user = userRepository.getById(id);
+            if (user == null || user.getDeleted() == 1) {
+                return null;
+            }
+            return UserConvert.entityToVO(user);
+        });
+        if (userVO == null) {
             throw new BusinessException("用户不存在");
         }
 
-        userVO = UserConvert.entityToVO(user);
-
-        // 存入缓存
-        redisTemplate.opsForValue().set(cacheKey, userVO, CACHE_EXPIRE_TIME, TimeUnit.MINUTES);
-
         return userVO;
     }
 
@@ -168,6 +153,7 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER, key = "#id")
     public boolean updateUserStatus(Long id, Integer status) {
         logger.info("更新用户状态: id={}, status={}", id, status);
 
@@ -179,17 +165,11 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         user.setStatus(status);
         user.setUpdateTime(LocalDateTime.now());
 
-        boolean updated = userRepository.updateById(user);
-        if (updated) {
-            // 删除缓存
-            String cacheKey = USER_CACHE_KEY + id;
-            redisTemplate.delete(cacheKey);
-        }
-
-        return updated;
+        return userRepository.updateById(user);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheNames.USER, key = "#id")
     public boolean deleteUser(Long id) {
         logger.info("删除用户: id={}", id);
 
@@ -198,17 +178,14 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
             throw new BusinessException("用户不存在");
         }
 
-        user.setDeleted(1);
-        user.setUpdateTime(LocalDateTime.now());
-
-        boolean deleted = userRepository.updateById(user);
-        if (deleted) {
-            // 删除缓存
-            String cacheKey = USER_CACHE_KEY + id;
-            redisTemplate.delete(cacheKey);
-        }
+        // 钉钉用户唯一约束包含已删除用户，删除时解除绑定，该钉钉用户再次登录时创建新账号
+        LambdaUpdateWrapper<User> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.eq(User::getId, id)
+                     .set(User::getDeleted, 1)
+                     .set(User::getUpdateTime, LocalDateTime.now())
+                     .set(User::getDingtalkUnionId, null);
 
-        return deleted;
+        return userRepository.update(updateWrapper);
     }
 
     @Override
@@ -230,6 +207,10 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
 
     @Override
     public boolean checkUsernameExists(String username) {
+        // 过滤器未命中说明一定不存在，无需查询数据库
+        if (!userUniquenessFilter.mightContainUsername(username)) {
+            return false;
+        }
         UserQueryDTO queryDTO = new UserQueryDTO();
         queryDTO.setUsername(username);
         queryDTO.setDeleted(0);
@@ -238,6 +219,10 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
 
     @Override
     public boolean checkEmailExists(String email) {
+        // 过滤器未命中说明一定不存在，无需查询数据库
+        if (!userUniquenessFilter.mightContainEmail(email)) {
+            return false;
+        }
         UserQueryDTO queryDTO = new UserQueryDTO();
         queryDTO.setEmail(email);
         queryDTO.setDeleted(0);
@@ -246,6 +231,10 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
 
     @Override
     public boolean checkPhoneExists(String phone) {
+        // 过滤器未命中说明一定不存在，无需查询数据库
+        if (!userUniquenessFilter.mightContainPhone(phone)) {
+            return false;
+        }
         UserQueryDTO queryDTO = new UserQueryDTO();
         queryDTO.setPhone(phone);
         queryDTO.setDeleted(0);
@@ -278,12 +267,40 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         return baseMapper.selectOne(queryWrapper);
     }
 
+    @Override
+    public String allocateUsername(String baseUsername) {
+        // 唯一约束包含已删除用户，而唯一字段过滤器只记录未删除用户，这里始终查询数据库
+        String prefix = baseUsername + "_";
+        List<String> usernames = baseMapper.selectUsernamesByPrefix(baseUsername, escapeLike(prefix));
+        boolean baseTaken = false;
+        Set<Integer> takenSuffixes = new HashSet<>();
+        for (String username : usernames) {
+            if (username.equalsIgnoreCase(baseUsername)) {
+                baseTaken = true;
+            } else if (username.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                Integer suffix = parseSuffix(username.substring(prefix.length()));
+                if (suffix != null) {
+                    takenSuffixes.add(suffix);
+                }
+            }
+        }
+        if (!baseTaken) {
+            return baseUsername;
+        }
+
+        int suffix = 1;
+        while (takenSuffixes.contains(suffix)) {
+            suffix++;
+        }
+        return prefix + suffix;
+    }
+
     @Override
     public String encodePassword(String rawPassword) {
         if (!StringUtils.hasText(rawPassword)) {
             throw new BusinessException("密码不能为空");
         }
-        return passwordEncoder.encode(rawPassword);
+        return passwordHasher.encode(rawPassword);
     }
 
     @Override
@@ -291,6 +308,54 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         if (!StringUtils.hasText(rawPassword) || !StringUtils.hasText(encodedPassword)) {
             return false;
         }
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return passwordHasher.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * 校验用户名、邮箱、手机号唯一性，按用户名、邮箱、手机号的顺序提示第一个重复项
+     */
+    private void checkUnique(UserCreateDTO createDTO) {
+        List<User> conflicts = baseMapper.selectUniqueConflicts(
+                createDTO.getUsername(), createDTO.getEmail(), createDTO.getPhone());
+        if (conflicts.isEmpty()) {
+            return;
+        }
+        if (conflicts.stream().anyMatch(user -> sameKey(user.getUsername(), createDTO.getUsername()))) {
+            throw new BusinessException("用户名已存在");
+        }
+        if (conflicts.stream().anyMatch(user -> sameKey(user.getEmail(), createDTO.getEmail()))) {
+            throw new BusinessException("邮箱已存在");
+        }
+        throw new BusinessException("手机号已存在");
+    }
+
+    /**
+     * 数据库按不区分大小写的排序规则比较，这里保持一致
+     */
+    private static boolean sameKey(String existing, String value) {
+        return existing != null && value != null && existing.trim().equalsIgnoreCase(value.trim());
+    }
+
+    /**
+     * 转义LIKE通配符，MySQL默认以反斜杠作为转义字符
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 解析纯数字后缀，不是纯数字或超出int范围时返回null
+     */
+    private static Integer parseSuffix(String text) {
+        if (text.isEmpty() || text.length() > 9) {
+            return null;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        return Integer.valueOf(text);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.biou.project.util;
+
+import java.io.IOException;
+
+/**
+ * 钉钉接口传输层
+ * 只负责收发报文，默认实现为连接池化的HttpClient，测试时可替换为指向本地桩服务的实现
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface DingTalkTransport {
+
+    /**
+     * 发送GET请求
+     *
+     * @param url 完整请求地址
+     * @return 响应体
+     * @throws IOException 网络请求异常或超时
+     */
+    String get(String url) throws IOException;
+
+    /**
+     * 发送JSON格式的POST请求
+     *
+     * @param url  完整请求地址
+     * @param body JSON请求体
+     * @return 响应体
+     * @throws IOException 网络请求异常或超时
+     */
+    String postJson(String url, String body) throws IOException;
+}
@@ -2,21 +2,21 @@ package com.biou.project.util;
 
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONObject;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 钉钉API工具类
+ * 企业access_token缓存在本地，临近过期时由单个线程提前刷新，其余线程继续使用未过期的token
  * 
  * @author Jax
  * @since 2025-06-14
@@ -24,6 +24,18 @@ import java.nio.charset.StandardCharsets;
 @Component
 public class DingTalkUtils {
 
+    private static final Logger logger = LoggerFactory.getLogger(DingTalkUtils.class);
+
+    /**
+     * access_token不合法或已过期的错误码，收到后丢弃缓存并重试一次
+     */
+    private static final int ERRCODE_INVALID_TOKEN = 40014;
+    private static final int ERRCODE_TOKEN_EXPIRED = 42001;
+
+    private static final long DEFAULT_TOKEN_EXPIRES_SECONDS = 7200;
+
+    private static final String REQUEST_METRIC = "biou.dingtalk.request";
+
     @Value("${dingtalk.app-id}")
     private String appId;
 
@@ -33,10 +45,31 @@ public class DingTalkUtils {
     @Value("${dingtalk.redirect-uri}")
     private String redirectUri;
 
-    private static final String DINGTALK_API_BASE = "https://oapi.dingtalk.com";
-    private static final String ACCESS_TOKEN_URL = DINGTALK_API_BASE + "/gettoken";
-    private static final String USER_INFO_URL = DINGTALK_API_BASE + "/topapi/v2/user/get";
-    private static final String USER_ACCESS_TOKEN_URL = DINGTALK_API_BASE + "/sns/getuserinfo_bycode";
+    /**
+     * 钉钉接口地址，测试时可指向本地桩服务
+     */
+    @Value("${dingtalk.api-base:https://oapi.dingtalk.com}")
+    private String apiBase;
+
+    /**
+     * access_token在过期前多少秒开始刷新
+     */
+    @Value("${dingtalk.token.refresh-ahead-seconds:300}")
+    private long refreshAheadSeconds;
+
+    @Autowired
+    private DingTalkTransport dingTalkTransport;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static final String ACCESS_TOKEN_PATH = "/gettoken";
+    private static final String USER_INFO_PATH = "/topapi/v2/user/get";
+    private static final String USER_ACCESS_TOKEN_PATH = "/sns/getuserinfo_bycode";
+
+    private final ReentrantLock tokenLock = new ReentrantLock();
+
+    private volatile AccessToken accessToken;
 
     /**
      * 获取钉钉扫码登录URL
@@ -56,25 +89,39 @@ public class DingTalkUtils {
 
     /**
      * 获取企业访问token
+     * 缓存有效时直接返回；进入提前刷新窗口后只有一个线程刷新，刷新失败时继续使用旧token；
+     * 已过期时其余线程等待刷新结果
      *
      * @return access_token
      * @throws IOException 网络请求异常
      */
     public String getAccessToken() throws IOException {
-        String url = ACCESS_TOKEN_URL + "?appkey=" + appId + "&appsecret=" + appSecret;
-        
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpGet httpGet = new HttpGet(url);
-            HttpResponse response = httpClient.execute(httpGet);
-            String responseBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-            
-            JSONObject jsonObject = JSON.parseObject(responseBody);
-            if (jsonObject.getInteger("errcode") == 0) {
-                return jsonObject.getString("access_token");
-            } else {
-                throw new RuntimeException("获取钉钉access_token失败: " + jsonObject.getString("errmsg"));
+        AccessToken current = accessToken;
+        long now = System.currentTimeMillis();
+        if (current != null && now < current.refreshAt) {
+            return current.value;
+        }
+
+        if (current != null && now < current.expireAt) {
+            if (!tokenLock.tryLock()) {
+                return current.value;
+            }
+            try {
+                return refreshAccessToken(current).value;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("提前刷新钉钉access_token失败，继续使用当前token: {}", e.getMessage());
+                return current.value;
+            } finally {
+                tokenLock.unlock();
             }
         }
+
+        tokenLock.lock();
+        try {
+            return refreshAccessToken(current).value;
+        } finally {
+            tokenLock.unlock();
+        }
     }
 
     /**
@@ -85,25 +132,14 @@ public class DingTalkUtils {
      * @throws IOException 网络请求异常
      */
     public JSONObject getUserInfoByCode(String code) throws IOException {
-        String accessToken = getAccessToken();
-        
         JSONObject requestBody = new JSONObject();
         requestBody.put("code", code);
-        
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpPost httpPost = new HttpPost(USER_ACCESS_TOKEN_URL + "?access_token=" + accessToken);
-            httpPost.setHeader("Content-Type", "application/json");
-            httpPost.setEntity(new StringEntity(requestBody.toString(), StandardCharsets.UTF_8));
-            
-            HttpResponse response = httpClient.execute(httpPost);
-            String responseBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-            
-            JSONObject jsonObject = JSON.parseObject(responseBody);
-            if (jsonObject.getInteger("errcode") == 0) {
-                return jsonObject.getJSONObject("user_info");
-            } else {
-                throw new RuntimeException("获取钉钉用户信息失败: " + jsonObject.getString("errmsg"));
-            }
+
+        JSONObject jsonObject = postWithAccessToken(USER_ACCESS_TOKEN_PATH, requestBody);
+        if (jsonObject.getIntValue("errcode") == 0) {
+            return jsonObject.getJSONObject("user_info");
+        } else {
+            throw new RuntimeException("获取钉钉用户信息失败: " + jsonObject.getString("errmsg"));
         }
     }
 
@@ -115,25 +151,14 @@ public class DingTalkUtils {
      * @throws IOException 网络请求异常
      */
     public JSONObject getUserDetailById(String userId) throws IOException {
-        String accessToken = getAccessToken();
-        
         JSONObject requestBody = new JSONObject();
         requestBody.put("userid", userId);
-        
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpPost httpPost = new HttpPost(USER_INFO_URL + "?access_token=" + accessToken);
-            httpPost.setHeader("Content-Type", "application/json");
-            httpPost.setEntity(new StringEntity(requestBody.toString(), StandardCharsets.UTF_8));
-            
-            HttpResponse response = httpClient.execute(httpPost);
-            String responseBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-            
-            JSONObject jsonObject = JSON.parseObject(responseBody);
-            if (jsonObject.getInteger("errcode") == 0) {
-                return jsonObject.getJSONObject("result");
-            } else {
-                throw new RuntimeException("获取钉钉用户详细信息失败: " + jsonObject.getString("errmsg"));
-            }
+
+        JSONObject jsonObject = postWithAccessToken(USER_INFO_PATH, requestBody);
+        if (jsonObject.getIntValue("errcode") == 0) {
+            return jsonObject.getJSONObject("result");
+        } else {
+            throw new RuntimeException("获取钉钉用户详细信息失败: " + jsonObject.getString("errmsg"));
         }
     }
 
@@ -150,4 +175,114 @@ public class DingTalkUtils {
         // 通常使用HMAC-SHA256算法
         return true; // 暂时返回true，实际项目中需要实现具体的验证逻辑
     }
-}
\ No newline at end of file
+
+    /**
+     * 携带access_token调用接口，token被钉钉判定无效时丢弃缓存并重试一次
+     */
+    private JSONObject postWithAccessToken(String path, JSONObject requestBody) throws IOException {
+        String token = getAccessToken();
+        JSONObject jsonObject = JSON.parseObject(
+                post(path, apiBase + path + "?access_token=" + token, requestBody.toString()));
+        int errcode = jsonObject.getIntValue("errcode");
+        if (errcode == ERRCODE_INVALID_TOKEN || errcode == ERRCODE_TOKEN_EXPIRED) {
+            invalidateAccessToken(token);
+            jsonObject = JSON.parseObject(post(path, apiBase + path + "?access_token=" + getAccessToken(),
+                    requestBody.toString()));
+        }
+        return jsonObject;
+    }
+
+    /**
+     * 刷新access_token，若其他线程已在等待期间完成刷新则直接使用其结果
+     * 调用方需持有tokenLock
+     */
+    private AccessToken refreshAccessToken(AccessToken seen) throws IOException {
+        AccessToken latest = accessToken;
+        if (latest != null && latest != seen && System.currentTimeMillis() < latest.refreshAt) {
+            return latest;
+        }
+
+        String url = apiBase + ACCESS_TOKEN_PATH + "?appkey=" + appId + "&appsecret=" + appSecret;
+        JSONObject jsonObject = JSON.parseObject(get(ACCESS_TOKEN_PATH, url));
+        if (jsonObject.getIntValue("errcode") != 0) {
+            throw new RuntimeException("获取钉钉access_token失败: " + jsonObject.getString("errmsg"));
+        }
+
+        long expiresIn = jsonObject.getLongValue("expires_in", DEFAULT_TOKEN_EXPIRES_SECONDS);
+        long now = System.currentTimeMillis();
+        long refreshIn = Math.max(expiresIn - refreshAheadSeconds, expiresIn / 2);
+        AccessToken refreshed = new AccessToken(jsonObject.getString("access_token"),
+                now + TimeUnit.SECONDS.toMillis(refreshIn), now + TimeUnit.SECONDS.toMillis(expiresIn));
+        accessToken = refreshed;
+        return refreshed;
+    }
+
+    private String get(String path, String url) throws IOException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            String response = dingTalkTransport.get(url);
+            success = true;
+            return response;
+        } finally {
+            recordRequest(path, start, success);
+        }
+    }
+
+    private String post(String path, String url, String body) throws IOException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            String response = dingTalkTransport.postJson(url, body);
+            success = true;
+            return response;
+        } finally {
+            recordRequest(path, start, success);
+        }
+    }
+
+    /**
+     * 记录钉钉接口调用耗时，outcome区分网络层面的成功与失败
+     */
+    private void recordRequest(String path, long startNanos, boolean success) {
+        Timer.builder(REQUEST_METRIC)
+                .description("钉钉接口调用耗时")
+                .tag("api", path)
+                .tag("outcome", success ? "success" : "error")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void invalidateAccessToken(String token) {
+        tokenLock.lock();
+        try {
+            AccessToken current = accessToken;
+            if (current != null && current.value.equals(token)) {
+                accessToken = null;
+            }
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    private static final class AccessToken {
+
+        private final String value;
+
+        /**
+         * 开始提前刷新的时间戳
+         */
+        private final long refreshAt;
+
+        /**
+         * 过期时间戳
+         */
+        private final long expireAt;
+
+        private AccessToken(String value, long refreshAt, long expireAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expireAt = expireAt;
+        }
+    }
+}
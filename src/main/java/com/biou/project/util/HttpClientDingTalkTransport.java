@@ -0,0 +1,92 @@
+package com.biou.project.util;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于连接池HttpClient的钉钉接口传输层
+ * 所有请求共享同一个客户端，复用TLS连接，并限制获取连接、建立连接和读取响应的等待时间
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class HttpClientDingTalkTransport implements DingTalkTransport, Closeable {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * @param connectTimeoutMs           建立连接超时（毫秒）
+     * @param readTimeoutMs              读取响应超时（毫秒）
+     * @param connectionRequestTimeoutMs 从连接池获取连接超时（毫秒）
+     * @param maxConnections             连接池最大连接数，钉钉接口为同一主机，同时作为单路由上限
+     * @param idleTimeoutSeconds         空闲连接保留时间（秒）
+     */
+    public HttpClientDingTalkTransport(int connectTimeoutMs, int readTimeoutMs, int connectionRequestTimeoutMs,
+                                       int maxConnections, long idleTimeoutSeconds) {
+        this.connectionManager = new PoolingHttpClientConnectionManager(idleTimeoutSeconds, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        // 复用前校验空闲超过2秒的连接，避免使用已被服务端关闭的连接
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(readTimeoutMs)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMs)
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS)
+                .disableCookieManagement()
+                .build();
+    }
+
+    @Override
+    public String get(String url) throws IOException {
+        return execute(new HttpGet(url));
+    }
+
+    @Override
+    public String postJson(String url, String body) throws IOException {
+        HttpPost httpPost = new HttpPost(url);
+        httpPost.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        return execute(httpPost);
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+        connectionManager.close();
+    }
+
+    private String execute(HttpRequestBase request) throws IOException {
+        // 读完响应体后连接归还连接池
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            String responseBody = response.getEntity() != null
+                    ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8) : "";
+            if (statusCode < 200 || statusCode >= 300) {
+                throw new IOException("钉钉接口响应异常，HTTP状态码：" + statusCode);
+            }
+            return responseBody;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.biou.project.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT注销黑名单
+ * 本地布隆过滤器记录已注销的token ID，未命中时直接放行，命中后再查询Redis确认；
+ * 各节点通过Redis发布订阅同步新增的注销记录，并定期从Redis全量重建过滤器；
+ * 首次重建成功前没有过滤器，全部查询Redis，避免启动时Redis不可用导致已注销的token重新生效
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class JwtBlacklist {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtBlacklist.class);
+
+    private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+
+    /**
+     * 所有注销记录，score为token过期时间戳，用于全量重建
+     */
+    private static final String BLACKLIST_INDEX = "jwt:blacklist:index";
+
+    private static final String BLACKLIST_CHANNEL = "jwt:blacklist:channel";
+
+    /**
+     * 旧版本以完整token为键记录注销，JWT头部Base64编码后均以eyJ开头
+     */
+    private static final String LEGACY_KEY_PATTERN = BLACKLIST_PREFIX + "eyJ*";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * 过滤器预计容量，实际注销数量超出时在下次重建时扩容
+     */
+    @Value("${jwt.blacklist.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    /**
+     * 首次重建完成前为空，此时全部查询Redis
+     */
+    private volatile BloomFilter filter;
+
+    /**
+     * 重建期间收到的注销记录同时写入新过滤器，避免重建时丢失
+     */
+    private volatile BloomFilter rebuilding;
+
+    /**
+     * 旧版本注销记录是否已迁移，迁移成功前每次重建时重试
+     */
+    private volatile boolean legacyMigrated;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> addLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(BLACKLIST_CHANNEL));
+    }
+
+    /**
+     * 注销token，记录保留到token过期
+     *
+     * @param tokenId          token ID
+     * @param expirationMillis token过期时间戳（毫秒）
+     */
+    public void revoke(String tokenId, long expirationMillis) {
+        long ttl = expirationMillis - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "1", ttl, TimeUnit.MILLISECONDS);
+        stringRedisTemplate.opsForZSet().add(BLACKLIST_INDEX, tokenId, expirationMillis);
+        addLocal(tokenId);
+        stringRedisTemplate.convertAndSend(BLACKLIST_CHANNEL, tokenId);
+    }
+
+    /**
+     * token是否已注销
+     *
+     * @param tokenId token ID
+     * @return 是否已注销
+     */
+    public boolean isRevoked(String tokenId) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BLACKLIST_PREFIX + tokenId));
+        } catch (Exception e) {
+            // 过滤器命中或尚未建立且无法确认时按已注销处理
+            logger.warn("查询JWT黑名单失败，按已注销处理: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 从Redis全量重建过滤器，补齐丢失的订阅消息并清除已过期的记录
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.blacklist.resync-interval-ms:60000}")
+    public void resync() {
+        try {
+            if (!legacyMigrated) {
+                migrateLegacyEntries();
+                legacyMigrated = true;
+            }
+            stringRedisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX, 0, System.currentTimeMillis());
+            Long size = stringRedisTemplate.opsForZSet().zCard(BLACKLIST_INDEX);
+            long capacity = Math.max(expectedInsertions, size == null ? 0L : size * 2);
+
+            BloomFilter next = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+            rebuilding = next;
+            Set<String> tokenIds = stringRedisTemplate.opsForZSet().range(BLACKLIST_INDEX, 0, -1);
+            if (tokenIds != null) {
+                for (String tokenId : tokenIds) {
+                    next.put(tokenId);
+                }
+            }
+            filter = next;
+            rebuilding = null;
+            logger.debug("JWT黑名单过滤器重建完成，共 {} 条", tokenIds == null ? 0 : tokenIds.size());
+        } catch (Exception e) {
+            rebuilding = null;
+            logger.warn("JWT黑名单过滤器重建失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 将旧版本以完整token为键的注销记录迁移为以token ID为键，并加入索引，
+     * 避免升级前注销的token在剩余有效期内重新生效
+     */
+    private void migrateLegacyEntries() {
+        List<String> legacyKeys = stringRedisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> keys = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(1000).build();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            return keys;
+        });
+        if (legacyKeys == null || legacyKeys.isEmpty()) {
+            return;
+        }
+        int migrated = 0;
+        for (String legacyKey : legacyKeys) {
+            Long ttl = stringRedisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+            if (ttl != null && ttl > 0) {
+                String tokenId = JwtUtils.hashToken(legacyKey.substring(BLACKLIST_PREFIX.length()));
+                stringRedisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "1", ttl, TimeUnit.MILLISECONDS);
+                stringRedisTemplate.opsForZSet().add(BLACKLIST_INDEX, tokenId, System.currentTimeMillis() + ttl);
+                addLocal(tokenId);
+                migrated++;
+            }
+            stringRedisTemplate.delete(legacyKey);
+        }
+        logger.info("JWT黑名单旧版本注销记录迁移完成，共 {} 条", migrated);
+    }
+
+    /**
+     * 先写入重建中的过滤器再写入当前过滤器，保证重建切换前后都不会遗漏
+     */
+    private void addLocal(String tokenId) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenId);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.biou.project.util;
+
+import java.util.Date;
+
+/**
+ * 已验证的JWT声明
+ * 一次解析取出认证所需的全部字段，不可变，可安全缓存
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public final class JwtClaims {
+
+    private final String tokenId;
+
+    private final Long userId;
+
+    private final String username;
+
+    private final String tokenType;
+
+    private final Date expiration;
+
+    public JwtClaims(String tokenId, Long userId, String username, String tokenType, Date expiration) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.username = username;
+        this.tokenType = tokenType;
+        this.expiration = expiration;
+    }
+
+    /**
+     * token ID（jti），未携带jti的旧token为token摘要
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public Date getExpiration() {
+        return new Date(expiration.getTime());
+    }
+
+    /**
+     * 过期时间戳（毫秒）
+     */
+    public long getExpirationMillis() {
+        return expiration.getTime();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtClaims{" +
+                "tokenId='" + tokenId + '\'' +
+                ", userId=" + userId +
+                ", username='" + username + '\'' +
+                ", tokenType='" + tokenType + '\'' +
+                ", expiration=" + expiration +
+                '}';
+    }
+}
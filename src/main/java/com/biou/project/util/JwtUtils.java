@@ -1,15 +1,25 @@
 package com.biou.project.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT token工具类
@@ -29,8 +39,24 @@ public class JwtUtils {
     @Value("${jwt.refresh-expiration:604800}")
     private Long refreshExpiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    @Value("${jwt.claims-cache.ttl-seconds:300}")
+    private long claimsCacheTtlSeconds;
+
     private SecretKey key;
 
+    /**
+     * 解析器不可变且线程安全，初始化后复用
+     */
+    private JwtParser parser;
+
+    /**
+     * 已验证token的声明缓存，条目不晚于token本身过期
+     */
+    private Cache<String, JwtClaims> claimsCache;
+
     @PostConstruct
     public void init() {
         byte[] keyBytes = secret.getBytes();
@@ -43,6 +69,32 @@ public class JwtUtils {
             keyBytes = expandedKey;
         }
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(claimsCacheTtlSeconds);
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String cacheKey, JwtClaims claims, long currentTime) {
+                        long remaining = TimeUnit.MILLISECONDS.toNanos(
+                                claims.getExpirationMillis() - System.currentTimeMillis());
+                        return Math.max(0L, Math.min(maxTtlNanos, remaining));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String cacheKey, JwtClaims claims, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(cacheKey, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String cacheKey, JwtClaims claims, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /**
@@ -87,6 +139,7 @@ public class JwtUtils {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString().replace("-", ""))
                 .setSubject(username)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -94,6 +147,32 @@ public class JwtUtils {
                 .compact();
     }
 
+    /**
+     * 解析并验证token，一次取出全部声明
+     * 已验证过的token从本地缓存返回，不再重复验签
+     *
+     * @param token JWT token
+     * @return 已验证的声明
+     */
+    public JwtClaims parseToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new RuntimeException("JWT token compact of handler are invalid");
+        }
+
+        String cacheKey = hashToken(token);
+        JwtClaims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null && cached.getExpirationMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        Claims claims = getClaimsFromToken(token);
+        String tokenId = StringUtils.hasText(claims.getId()) ? claims.getId() : cacheKey;
+        JwtClaims jwtClaims = new JwtClaims(tokenId, claims.get("userId", Long.class), claims.getSubject(),
+                claims.get("tokenType", String.class), claims.getExpiration());
+        claimsCache.put(cacheKey, jwtClaims);
+        return jwtClaims;
+    }
+
     /**
      * 从token中获取用户ID
      *
@@ -101,8 +180,7 @@ public class JwtUtils {
      * @return 用户ID
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.get("userId", Long.class);
+        return parseToken(token).getUserId();
     }
 
     /**
@@ -112,8 +190,7 @@ public class JwtUtils {
      * @return 用户名
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getSubject();
+        return parseToken(token).getUsername();
     }
 
     /**
@@ -123,8 +200,7 @@ public class JwtUtils {
      * @return token类型
      */
     public String getTokenTypeFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.get("tokenType", String.class);
+        return parseToken(token).getTokenType();
     }
 
     /**
@@ -134,8 +210,7 @@ public class JwtUtils {
      * @return 过期时间
      */
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims.getExpiration();
+        return parseToken(token).getExpiration();
     }
 
     /**
@@ -146,11 +221,17 @@ public class JwtUtils {
      */
     private Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            throw new RuntimeException("JWT token is expired", e);
+        } catch (UnsupportedJwtException e) {
+            throw new RuntimeException("JWT token is unsupported", e);
+        } catch (MalformedJwtException e) {
+            throw new RuntimeException("JWT token is malformed", e);
+        } catch (SecurityException e) {
+            throw new RuntimeException("JWT signature validation failed", e);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("JWT token compact of handler are invalid", e);
         } catch (Exception e) {
             throw new RuntimeException("Invalid JWT token", e);
         }
@@ -163,22 +244,21 @@ public class JwtUtils {
      * @return 是否有效
      */
     public boolean validateToken(String token) {
+        parseToken(token);
+        return true;
+    }
+
+    /**
+     * 缓存键使用token的SHA-256摘要，避免在内存中保留完整token；
+     * 没有jti的旧token也以该摘要作为token ID
+     */
+    static String hashToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            throw new RuntimeException("JWT token is expired", e);
-        } catch (UnsupportedJwtException e) {
-            throw new RuntimeException("JWT token is unsupported", e);
-        } catch (MalformedJwtException e) {
-            throw new RuntimeException("JWT token is malformed", e);
-        } catch (SecurityException e) {
-            throw new RuntimeException("JWT signature validation failed", e);
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException("JWT token compact of handler are invalid", e);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().withoutPadding()
+                    .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
@@ -202,18 +282,11 @@ public class JwtUtils {
      * @return 新的访问token
      */
     public String refreshAccessToken(String refreshToken) {
-        if (!validateToken(refreshToken)) {
-            throw new RuntimeException("Invalid refresh token");
-        }
-
-        String tokenType = getTokenTypeFromToken(refreshToken);
-        if (!"refresh".equals(tokenType)) {
+        JwtClaims claims = parseToken(refreshToken);
+        if (!"refresh".equals(claims.getTokenType())) {
             throw new RuntimeException("Not a refresh token");
         }
 
-        Long userId = getUserIdFromToken(refreshToken);
-        String username = getUsernameFromToken(refreshToken);
-
-        return generateAccessToken(userId, username);
+        return generateAccessToken(claims.getUserId(), claims.getUsername());
     }
 }
\ No newline at end of file
@@ -0,0 +1,196 @@
+package com.biou.project.util;
+
+import com.alibaba.fastjson2.JSON;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.biou.project.entity.User;
+import com.biou.project.mapper.UserMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 用户唯一字段布隆过滤器
+ * 本地记录已存在的用户名、邮箱、手机号，未命中时说明一定可用，命中后再查询数据库确认；
+ * 各节点通过Redis发布订阅同步新建的用户，并定期从数据库全量重建，清除已删除用户留下的记录
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class UserUniquenessFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserUniquenessFilter.class);
+
+    private static final String USER_CHANNEL = "user:unique:channel";
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * 过滤器预计容量，实际用户数量超出时在下次重建时扩容
+     */
+    @Value("${biou.user.unique-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    /**
+     * 首次重建完成前为空，此时全部查询数据库
+     */
+    private volatile Filters filters;
+
+    /**
+     * 重建期间新建的用户同时写入新过滤器，避免重建时丢失
+     */
+    private volatile Filters rebuilding;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> addLocal(JSON.parseArray(
+                        new String(message.getBody(), StandardCharsets.UTF_8), String.class)),
+                new ChannelTopic(USER_CHANNEL));
+    }
+
+    /**
+     * 用户名是否可能已存在
+     */
+    public boolean mightContainUsername(String username) {
+        Filters current = filters;
+        return current == null || current.username.mightContain(normalize(username));
+    }
+
+    /**
+     * 邮箱是否可能已存在
+     */
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return current == null || current.email.mightContain(normalize(email));
+    }
+
+    /**
+     * 手机号是否可能已存在
+     */
+    public boolean mightContainPhone(String phone) {
+        Filters current = filters;
+        return current == null || current.phone.mightContain(normalize(phone));
+    }
+
+    /**
+     * 记录新建的用户并通知其他节点
+     *
+     * @param user 新建的用户
+     */
+    public void add(User user) {
+        List<String> keys = Arrays.asList(user.getUsername(), user.getEmail(), user.getPhone());
+        addLocal(keys);
+        try {
+            stringRedisTemplate.convertAndSend(USER_CHANNEL, JSON.toJSONString(keys));
+        } catch (Exception e) {
+            // 其他节点在下次重建时补齐
+            logger.warn("广播新建用户失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 从数据库全量重建过滤器，补齐丢失的订阅消息并清除已删除用户的记录
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${biou.user.unique-filter.resync-interval-ms:600000}")
+    public void resync() {
+        try {
+            Long count = userMapper.selectCount(new LambdaQueryWrapper<User>().eq(User::getDeleted, 0));
+            long capacity = Math.max(expectedInsertions, count == null ? 0L : count * 2);
+
+            Filters next = new Filters(capacity);
+            rebuilding = next;
+            long lastId = 0L;
+            long loaded = 0L;
+            List<User> batch;
+            do {
+                batch = userMapper.selectUniqueKeysAfter(lastId, REBUILD_BATCH_SIZE);
+                for (User user : batch) {
+                    next.put(user.getUsername(), user.getEmail(), user.getPhone());
+                    lastId = user.getId();
+                }
+                loaded += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            filters = next;
+            rebuilding = null;
+            logger.debug("用户唯一字段过滤器重建完成，共 {} 个用户", loaded);
+        } catch (Exception e) {
+            rebuilding = null;
+            logger.warn("用户唯一字段过滤器重建失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 先写入重建中的过滤器再写入当前过滤器，保证重建切换前后都不会遗漏
+     */
+    private void addLocal(List<String> keys) {
+        if (keys == null || keys.size() != 3) {
+            return;
+        }
+        Filters next = rebuilding;
+        if (next != null) {
+            next.put(keys.get(0), keys.get(1), keys.get(2));
+        }
+        Filters current = filters;
+        if (current != null) {
+            current.put(keys.get(0), keys.get(1), keys.get(2));
+        }
+    }
+
+    /**
+     * 与数据库默认的不区分大小写排序规则保持一致，只会多出误判，不会漏判
+     */
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter username;
+
+        private final BloomFilter email;
+
+        private final BloomFilter phone;
+
+        private Filters(long capacity) {
+            this.username = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+            this.email = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+            this.phone = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        }
+
+        private void put(String usernameValue, String emailValue, String phoneValue) {
+            if (usernameValue != null) {
+                username.put(normalize(usernameValue));
+            }
+            if (emailValue != null) {
+                email.put(normalize(emailValue));
+            }
+            if (phoneValue != null) {
+                phone.put(normalize(phoneValue));
+            }
+        }
+    }
+}
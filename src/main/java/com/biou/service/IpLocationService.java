@@ -0,0 +1,31 @@
+package com.biou.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * IP地理位置查询服务接口
+ * 基于本地IP地址库离线查询，地址库文件变化后自动重新加载
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface IpLocationService {
+
+    /**
+     * 查询IP地址所在地点
+     *
+     * @param ipAddress IPv4或IPv6地址
+     * @return 地点；内网地址返回"内网IP"，未收录或地址无效时返回"未知位置"
+     */
+    String resolve(String ipAddress);
+
+    /**
+     * 检查地址库文件，有变化时重新加载
+     */
+    void reloadIfChanged();
+
+    /**
+     * 查询结果缓存的命中统计
+     */
+    CacheStats getCacheStats();
+}
@@ -0,0 +1,34 @@
+package com.biou.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 日志表分区维护服务接口
+ * 日志表按 TO_DAYS(时间) 进行RANGE分区，末尾保留MAXVALUE兜底分区 p_future
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface LogPartitionService {
+
+    /**
+     * 是否启用分区维护
+     *
+     * @return 是否启用
+     */
+    boolean isEnabled();
+
+    /**
+     * 拆分兜底分区，预建当前及之后若干个周期的分区
+     */
+    void createFuturePartitions();
+
+    /**
+     * 删除数据全部早于截止时间的分区
+     *
+     * @param cutoff 清理截止时间
+     * @return 各日志类型删除的分区数量
+     */
+    Map<String, Integer> dropExpiredPartitions(LocalDateTime cutoff);
+}
@@ -0,0 +1,57 @@
+package com.biou.service;
+
+import com.biou.vo.LogPurgeProgressVO;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 日志分块清理服务接口
+ * 按主键分块删除过期日志，每块独立提交并记录进度，支持限速、最大运行时间和中断后继续
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface LogPurgeService {
+
+    /**
+     * 清理指定类型的过期日志
+     *
+     * @param logType 日志类型，见LogConstants.LogType
+     * @param cutoff  清理截止时间
+     * @return 本次删除数量
+     */
+    long purge(String logType, LocalDateTime cutoff);
+
+    /**
+     * 清理所有类型的过期日志
+     *
+     * @param cutoff 清理截止时间
+     * @return 各日志类型本次删除数量
+     */
+    Map<String, Long> purgeAll(LocalDateTime cutoff);
+
+    /**
+     * 提交指定类型的过期日志清理到后台执行，立即返回
+     *
+     * @param logType 日志类型，见LogConstants.LogType
+     * @param cutoff  清理截止时间
+     * @return 提交时的清理进度，包含任务ID，后续通过getProgress查询
+     */
+    LogPurgeProgressVO submitPurge(String logType, LocalDateTime cutoff);
+
+    /**
+     * 提交所有类型的过期日志清理到后台执行，立即返回
+     *
+     * @param cutoff 清理截止时间
+     * @return 提交时的清理进度，包含任务ID，后续通过getProgress查询
+     */
+    LogPurgeProgressVO submitPurgeAll(LocalDateTime cutoff);
+
+    /**
+     * 获取清理进度
+     *
+     * @return 清理进度
+     */
+    LogPurgeProgressVO getProgress();
+}
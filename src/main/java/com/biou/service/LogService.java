@@ -1,6 +1,7 @@
 package com.biou.service;
 
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.biou.constant.LogExportFormat;
 import com.biou.dto.AuditLogQueryDTO;
 import com.biou.dto.LoginLogQueryDTO;
 import com.biou.dto.SystemLogQueryDTO;
@@ -8,10 +9,14 @@ import com.biou.entity.AuditLog;
 import com.biou.entity.LoginLog;
 import com.biou.entity.SystemLog;
 import com.biou.vo.AuditLogVO;
+import com.biou.vo.CursorPageVO;
+import com.biou.vo.LogPurgeProgressVO;
 import com.biou.vo.LoginLogVO;
 import com.biou.vo.SystemLogVO;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +53,30 @@ public interface LogService {
      */
     Page<LoginLogVO> pageLoginLog(LoginLogQueryDTO queryDTO);
 
+    /**
+     * 游标分页查询审计日志
+     *
+     * @param queryDTO 查询条件
+     * @return 游标分页结果
+     */
+    CursorPageVO<AuditLogVO> cursorAuditLog(AuditLogQueryDTO queryDTO);
+
+    /**
+     * 游标分页查询系统日志
+     *
+     * @param queryDTO 查询条件
+     * @return 游标分页结果
+     */
+    CursorPageVO<SystemLogVO> cursorSystemLog(SystemLogQueryDTO queryDTO);
+
+    /**
+     * 游标分页查询登录日志
+     *
+     * @param queryDTO 查询条件
+     * @return 游标分页结果
+     */
+    CursorPageVO<LoginLogVO> cursorLoginLog(LoginLogQueryDTO queryDTO);
+
     /**
      * 查询审计日志列表
      *
@@ -73,20 +102,53 @@ public interface LogService {
     List<LoginLogVO> queryLoginLogs(LoginLogQueryDTO queryDTO);
 
     /**
-     * 清理审计日志
+     * 流式导出审计日志
+     *
+     * @param queryDTO     查询条件
+     * @param format       导出格式
+     * @param outputStream 输出流
+     * @return 导出条数
+     * @throws IOException 写入输出流失败
+     */
+    long exportAuditLogs(AuditLogQueryDTO queryDTO, LogExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 流式导出系统日志
+     *
+     * @param queryDTO     查询条件
+     * @param format       导出格式
+     * @param outputStream 输出流
+     * @return 导出条数
+     * @throws IOException 写入输出流失败
+     */
+    long exportSystemLogs(SystemLogQueryDTO queryDTO, LogExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 流式导出登录日志
+     *
+     * @param queryDTO     查询条件
+     * @param format       导出格式
+     * @param outputStream 输出流
+     * @return 导出条数
+     * @throws IOException 写入输出流失败
+     */
+    long exportLoginLogs(LoginLogQueryDTO queryDTO, LogExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 提交审计日志清理到后台执行
      *
      * @param days 保留天数
-     * @return 清理数量
+     * @return 清理进度
      */
-    int cleanAuditLogs(Integer days);
+    LogPurgeProgressVO cleanAuditLogs(Integer days);
 
     /**
-     * 清理所有类型的日志
+     * 提交所有类型的日志清理到后台执行
      *
      * @param days 保留天数
-     * @return 清理数量
+     * @return 清理进度
      */
-    int cleanAllLogs(Integer days);
+    LogPurgeProgressVO cleanAllLogs(Integer days);
 
     /**
      * 保存审计日志
@@ -102,6 +164,13 @@ public interface LogService {
      */
     void saveSystemLog(SystemLog systemLog);
 
+    /**
+     * 批量保存系统日志
+     *
+     * @param systemLogs 系统日志列表
+     */
+    void saveSystemLogBatch(List<SystemLog> systemLogs);
+
     /**
      * 保存登录日志
      *
@@ -0,0 +1,30 @@
+package com.biou.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 日志统计服务接口
+ * 统计数据来自按小时/按天的汇总表，汇总水位之后的少量新日志实时统计
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public interface LogStatisticsService {
+
+    /**
+     * 汇总下一批日志到统计表
+     *
+     * @param logType 日志类型，见LogConstants.LogType
+     * @return 是否还有待汇总的日志
+     */
+    boolean rollupNext(String logType);
+
+    /**
+     * 获取日志统计信息
+     *
+     * @param startTime 统计开始时间（含），不要求整点
+     * @return 统计信息
+     */
+    Map<String, Map<String, Long>> getLogStatistics(LocalDateTime startTime);
+}
@@ -0,0 +1,148 @@
+package com.biou.service.impl;
+
+import com.biou.service.IpLocationService;
+import com.biou.util.IpLocationDatabase;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * IP地理位置查询服务实现类
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Service
+public class IpLocationServiceImpl implements IpLocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IpLocationServiceImpl.class);
+
+    private static final String INTERNAL_LOCATION = "内网IP";
+
+    private static final String UNKNOWN_LOCATION = "未知位置";
+
+    /**
+     * IPv6地址字面量的最大长度，超过的必然无效，不进入缓存
+     */
+    private static final int MAX_IP_LENGTH = 45;
+
+    /**
+     * 地址库文件路径，为空时不启用离线查询
+     */
+    @Value("${biou.log.ip-location.file:}")
+    private String file;
+
+    /**
+     * 查询结果缓存容量
+     */
+    @Value("${biou.log.ip-location.cache-size:10000}")
+    private long cacheSize;
+
+    private Cache<String, String> resultCache;
+
+    private volatile IpLocationDatabase database = IpLocationDatabase.empty();
+
+    /**
+     * 已加载文件的修改时间和大小，用于判断文件是否变化
+     */
+    private long loadedModifiedTime;
+    private long loadedSize = -1;
+
+    @PostConstruct
+    public void init() {
+        resultCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        reloadIfChanged();
+    }
+
+    @Override
+    public String resolve(String ipAddress) {
+        if (StringUtils.isBlank(ipAddress) || "localhost".equals(ipAddress)) {
+            return INTERNAL_LOCATION;
+        }
+        if (ipAddress.length() > MAX_IP_LENGTH) {
+            return UNKNOWN_LOCATION;
+        }
+        return resultCache.get(ipAddress, this::lookup);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${biou.log.ip-location.reload-interval-ms:60000}")
+    public synchronized void reloadIfChanged() {
+        if (StringUtils.isBlank(file)) {
+            return;
+        }
+        Path path = Paths.get(file);
+        try {
+            if (!Files.isRegularFile(path)) {
+                if (loadedSize != -2) {
+                    logger.warn("IP地址库文件不存在：{}", path.toAbsolutePath());
+                    loadedSize = -2;
+                }
+                return;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long modifiedTime = attributes.lastModifiedTime().toMillis();
+            if (modifiedTime == loadedModifiedTime && attributes.size() == loadedSize) {
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            IpLocationDatabase loaded = IpLocationDatabase.load(path);
+            database = loaded;
+            loadedModifiedTime = modifiedTime;
+            loadedSize = attributes.size();
+            resultCache.invalidateAll();
+            logger.info("IP地址库加载完成，IP段：{}，地点：{}，耗时：{}ms",
+                    loaded.size(), loaded.locationCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 加载失败时保留当前地址库
+            logger.error("加载IP地址库失败：{}", path.toAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public CacheStats getCacheStats() {
+        return resultCache.stats();
+    }
+
+    private String lookup(String ipAddress) {
+        IpLocationDatabase current = database;
+        long ipv4 = IpLocationDatabase.parseIpv4(ipAddress);
+        if (ipv4 >= 0) {
+            return IpLocationDatabase.isInternalIpv4(ipv4) ? INTERNAL_LOCATION : orUnknown(current.findIpv4(ipv4));
+        }
+
+        long[] ipv6 = IpLocationDatabase.parseIpv6(ipAddress);
+        if (ipv6 == null) {
+            return UNKNOWN_LOCATION;
+        }
+        if (ipv6[0] == 0 && (ipv6[1] >>> 32) == 0xFFFFL) {
+            // IPv4映射地址按IPv4查询
+            long mapped = ipv6[1] & 0xFFFFFFFFL;
+            return IpLocationDatabase.isInternalIpv4(mapped) ? INTERNAL_LOCATION : orUnknown(current.findIpv4(mapped));
+        }
+        if (IpLocationDatabase.isInternalIpv6(ipv6[0], ipv6[1])) {
+            return INTERNAL_LOCATION;
+        }
+        return orUnknown(current.findIpv6(ipv6[0], ipv6[1]));
+    }
+
+    private static String orUnknown(String location) {
+        return location != null ? location : UNKNOWN_LOCATION;
+    }
+}
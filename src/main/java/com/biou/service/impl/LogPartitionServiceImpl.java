@@ -0,0 +1,137 @@
+package com.biou.service.impl;
+
+import com.biou.constant.LogConstants;
+import com.biou.constant.LogPartitionGranularity;
+import com.biou.entity.LogPartition;
+import com.biou.mapper.LogPartitionMapper;
+import com.biou.service.LogPartitionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 日志表分区维护服务实现类
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Service
+public class LogPartitionServiceImpl implements LogPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogPartitionServiceImpl.class);
+
+    private static final String[] LOG_TYPES = {
+            LogConstants.LogType.AUDIT, LogConstants.LogType.SYSTEM, LogConstants.LogType.LOGIN
+    };
+
+    @Autowired
+    private LogPartitionMapper logPartitionMapper;
+
+    /**
+     * 是否启用分区维护，需先执行 v1.2.0/003_partition_log_tables.sql
+     */
+    @Value("${biou.log.partition.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 分区粒度：DAY、MONTH
+     */
+    @Value("${biou.log.partition.granularity:MONTH}")
+    private LogPartitionGranularity granularity;
+
+    /**
+     * 当前周期之后预建的分区数量
+     */
+    @Value("${biou.log.partition.future-partitions:3}")
+    private int futurePartitions;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void createFuturePartitions() {
+        for (String logType : LOG_TYPES) {
+            try {
+                createFuturePartitions(logType);
+            } catch (Exception e) {
+                logger.error("预建日志分区失败，日志类型：{}", logType, e);
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Integer> dropExpiredPartitions(LocalDateTime cutoff) {
+        LocalDate cutoffDate = cutoff.toLocalDate();
+        Map<String, Integer> result = new LinkedHashMap<>();
+
+        for (String logType : LOG_TYPES) {
+            try {
+                result.put(logType, dropExpiredPartitions(logType, cutoffDate));
+            } catch (Exception e) {
+                logger.error("删除过期日志分区失败，日志类型：{}", logType, e);
+                result.put(logType, 0);
+            }
+        }
+        return result;
+    }
+
+    private int dropExpiredPartitions(String logType, LocalDate cutoffDate) {
+        List<String> expired = new ArrayList<>();
+        long estimatedRows = 0L;
+        for (LogPartition partition : logPartitionMapper.selectPartitions(logType)) {
+            LocalDate upperBound = partition.getUpperBound();
+            // 上界不晚于截止日期，分区内所有数据都早于截止时间
+            if (upperBound != null && !upperBound.isAfter(cutoffDate)) {
+                expired.add(partition.getPartitionName());
+                estimatedRows += partition.getTableRows() == null ? 0L : partition.getTableRows();
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            logPartitionMapper.dropPartitions(logType, expired);
+            logger.info("删除过期日志分区，日志类型：{}，分区：{}，约 {} 条", logType, expired, estimatedRows);
+        }
+        return expired.size();
+    }
+
+    private void createFuturePartitions(String logType) {
+        List<LogPartition> partitions = logPartitionMapper.selectPartitions(logType);
+        if (partitions.isEmpty()
+                || !LogPartition.FUTURE_PARTITION.equals(partitions.get(partitions.size() - 1).getPartitionName())) {
+            logger.warn("日志表未按时间分区，跳过分区维护，日志类型：{}", logType);
+            return;
+        }
+
+        LocalDate current = granularity.floor(LocalDate.now());
+        LocalDate target = current;
+        for (int i = 0; i <= futurePartitions; i++) {
+            target = granularity.next(target);
+        }
+
+        // 从最后一个有上界的分区之后开始补齐，直到覆盖目标日期
+        LocalDate lower = partitions.size() > 1 ? partitions.get(partitions.size() - 2).getUpperBound() : current;
+        List<LogPartition> created = new ArrayList<>();
+        while (lower.isBefore(target)) {
+            LocalDate upper = granularity.next(lower);
+            created.add(new LogPartition("p" + lower.format(DateTimeFormatter.BASIC_ISO_DATE), upper));
+            lower = upper;
+        }
+
+        if (!created.isEmpty()) {
+            logPartitionMapper.splitFuturePartition(logType, created);
+            logger.info("预建日志分区完成，日志类型：{}，新增 {} 个分区，覆盖至 {}", logType, created.size(), target);
+        }
+    }
+}
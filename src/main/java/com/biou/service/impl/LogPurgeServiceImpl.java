@@ -0,0 +1,292 @@
+package com.biou.service.impl;
+
+import com.biou.constant.LogConstants;
+import com.biou.entity.LogPurgeTask;
+import com.biou.mapper.LogPurgeMapper;
+import com.biou.project.exception.BusinessException;
+import com.biou.service.LogPurgeService;
+import com.biou.util.LogCursor;
+import com.biou.vo.LogPurgeProgressVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 日志分块清理服务实现类
+ * 手动清理提交到单线程后台执行器，同一时间只允许一个清理任务运行
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Service
+public class LogPurgeServiceImpl implements LogPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogPurgeServiceImpl.class);
+
+    private static final String[] LOG_TYPES = {
+            LogConstants.LogType.AUDIT, LogConstants.LogType.SYSTEM, LogConstants.LogType.LOGIN
+    };
+
+    @Autowired
+    private LogPurgeMapper logPurgeMapper;
+
+    /**
+     * 每块删除的最大条数
+     */
+    @Value("${biou.log.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 每块之间的最小间隔（毫秒）
+     */
+    @Value("${biou.log.purge.sleep-ms:100}")
+    private long sleepMillis;
+
+    /**
+     * 每秒最大删除条数，0表示不限制
+     */
+    @Value("${biou.log.purge.max-rows-per-second:5000}")
+    private long maxRowsPerSecond;
+
+    /**
+     * 单次清理最大运行时间（分钟），超时后暂停，下次从进度处继续
+     */
+    @Value("${biou.log.purge.max-runtime-minutes:60}")
+    private long maxRuntimeMinutes;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ExecutorService executor;
+
+    private volatile String taskId;
+
+    private volatile String currentLogType;
+
+    private volatile LocalDateTime startTime;
+
+    private volatile LocalDateTime finishTime;
+
+    private volatile Map<String, Long> deletedByType = Collections.emptyMap();
+
+    private volatile String errorMessage;
+
+    private volatile LocalDateTime lastChunkTime;
+
+    private final AtomicLong deletedRows = new AtomicLong();
+
+    private final AtomicLong chunks = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        // 中断后在块间保存进度，下次清理从进度处继续
+        executor.shutdownNow();
+    }
+
+    @Override
+    public long purge(String logType, LocalDateTime cutoff) {
+        return purge(new String[]{logType}, cutoff).get(logType);
+    }
+
+    @Override
+    public Map<String, Long> purgeAll(LocalDateTime cutoff) {
+        return purge(LOG_TYPES, cutoff);
+    }
+
+    @Override
+    public LogPurgeProgressVO submitPurge(String logType, LocalDateTime cutoff) {
+        return submit(new String[]{logType}, cutoff);
+    }
+
+    @Override
+    public LogPurgeProgressVO submitPurgeAll(LocalDateTime cutoff) {
+        return submit(LOG_TYPES, cutoff);
+    }
+
+    @Override
+    public LogPurgeProgressVO getProgress() {
+        LogPurgeProgressVO progress = new LogPurgeProgressVO();
+        progress.setTaskId(taskId);
+        progress.setRunning(running.get());
+        progress.setCurrentLogType(currentLogType);
+        progress.setDeletedRows(deletedRows.get());
+        progress.setChunks(chunks.get());
+        progress.setStartTime(startTime);
+        progress.setLastChunkTime(lastChunkTime);
+        progress.setFinishTime(finishTime);
+        progress.setDeletedByType(deletedByType);
+        progress.setErrorMessage(errorMessage);
+        return progress;
+    }
+
+    private Map<String, Long> purge(String[] logTypes, LocalDateTime cutoff) {
+        acquire();
+        return run(logTypes, cutoff);
+    }
+
+    private LogPurgeProgressVO submit(String[] logTypes, LocalDateTime cutoff) {
+        acquire();
+        try {
+            executor.execute(() -> {
+                try {
+                    run(logTypes, cutoff);
+                } catch (Exception e) {
+                    logger.error("后台日志清理失败，任务ID：{}", taskId, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw new BusinessException("提交日志清理任务失败：" + e.getMessage());
+        }
+        return getProgress();
+    }
+
+    /**
+     * 占用清理任务并重置进度，已有任务运行时拒绝
+     */
+    private void acquire() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException("日志清理正在执行中，请稍后重试");
+        }
+        taskId = UUID.randomUUID().toString().replace("-", "");
+        startTime = LocalDateTime.now();
+        lastChunkTime = null;
+        finishTime = null;
+        deletedByType = Collections.emptyMap();
+        errorMessage = null;
+        deletedRows.set(0);
+        chunks.set(0);
+    }
+
+    private Map<String, Long> run(String[] logTypes, LocalDateTime cutoff) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        try {
+            long deadline = System.currentTimeMillis() + maxRuntimeMinutes * 60_000L;
+            for (String logType : logTypes) {
+                currentLogType = logType;
+                result.put(logType, purgeTable(logType, cutoff, deadline));
+            }
+            return result;
+        } catch (RuntimeException e) {
+            errorMessage = e.getMessage();
+            throw e;
+        } finally {
+            deletedByType = Collections.unmodifiableMap(result);
+            finishTime = LocalDateTime.now();
+            currentLogType = null;
+            running.set(false);
+        }
+    }
+
+    /**
+     * 分块清理单张日志表
+     */
+    private long purgeTable(String logType, LocalDateTime cutoff, long deadline) {
+        LogPurgeTask task = logPurgeMapper.selectTask(logType);
+        if (task == null || !LogPurgeTask.STATUS_RUNNING.equals(task.getStatus())) {
+            task = new LogPurgeTask();
+            task.setLogType(logType);
+            task.setDeletedCount(0L);
+            task.setStatus(LogPurgeTask.STATUS_RUNNING);
+            task.setStartTime(LocalDateTime.now());
+        } else {
+            logger.info("继续上次未完成的日志清理，日志类型：{}，已删除：{}", logType, task.getDeletedCount());
+        }
+        task.setCutoffTime(cutoff);
+
+        // 限速：每块耗时不少于 chunkSize / maxRowsPerSecond 秒
+        long minChunkMillis = maxRowsPerSecond > 0 ? chunkSize * 1000L / maxRowsPerSecond : 0L;
+        long deleted = 0L;
+        while (true) {
+            if (System.currentTimeMillis() >= deadline) {
+                logPurgeMapper.saveTask(task);
+                logger.warn("日志清理超过最大运行时间 {} 分钟，已暂停，日志类型：{}，本次删除：{}",
+                        maxRuntimeMinutes, logType, deleted);
+                return deleted;
+            }
+
+            long chunkStart = System.currentTimeMillis();
+            List<LogCursor> keys = logPurgeMapper.selectExpiredKeys(logType, cutoff, task.getLastTime(), task.getLastId(), chunkSize);
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = new ArrayList<>(keys.size());
+            for (LogCursor key : keys) {
+                ids.add(key.getId());
+            }
+            int count = logPurgeMapper.deleteByIds(logType, ids);
+
+            LogCursor last = keys.get(keys.size() - 1);
+            deleted += count;
+            task.setDeletedCount(task.getDeletedCount() + count);
+            task.setLastTime(last.getTime());
+            task.setLastId(last.getId());
+            logPurgeMapper.saveTask(task);
+
+            deletedRows.addAndGet(count);
+            chunks.incrementAndGet();
+            lastChunkTime = LocalDateTime.now();
+
+            if (keys.size() < chunkSize) {
+                break;
+            }
+            if (!throttle(chunkStart, minChunkMillis)) {
+                logPurgeMapper.saveTask(task);
+                return deleted;
+            }
+        }
+
+        task.setStatus(LogPurgeTask.STATUS_COMPLETED);
+        task.setLastTime(null);
+        task.setLastId(null);
+        logPurgeMapper.saveTask(task);
+        logger.info("日志清理完成，日志类型：{}，本次删除：{}，本轮累计删除：{}", logType, deleted, task.getDeletedCount());
+        return deleted;
+    }
+
+    /**
+     * 块间休眠，兼顾固定间隔与每秒删除条数上限
+     *
+     * @return 线程被中断时返回false
+     */
+    private boolean throttle(long chunkStart, long minChunkMillis) {
+        long elapsed = System.currentTimeMillis() - chunkStart;
+        long sleep = Math.max(sleepMillis, minChunkMillis - elapsed);
+        if (sleep <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(sleep);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("日志清理被中断，已保存进度");
+            return false;
+        }
+    }
+}
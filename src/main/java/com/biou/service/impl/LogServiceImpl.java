@@ -3,8 +3,11 @@ package com.biou.service.impl;
 import com.alibaba.fastjson2.JSON;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.biou.constant.LogConstants;
+import com.biou.constant.LogExportFormat;
 import com.biou.convert.LogConvert;
 import com.biou.dto.AuditLogQueryDTO;
 import com.biou.dto.LoginLogQueryDTO;
@@ -12,28 +15,49 @@ import com.biou.dto.SystemLogQueryDTO;
 import com.biou.entity.AuditLog;
 import com.biou.entity.LoginLog;
 import com.biou.entity.SystemLog;
+import com.biou.logging.AuditLogWriter;
+import com.biou.logging.LogJournal;
+import com.biou.logging.LogJournalRecordType;
 import com.biou.mapper.AuditLogMapper;
 import com.biou.mapper.LoginLogMapper;
 import com.biou.mapper.SystemLogMapper;
+import com.biou.project.dto.PageQueryDTO;
+import com.biou.project.exception.BusinessException;
+import com.biou.service.IpLocationService;
+import com.biou.service.LogPurgeService;
 import com.biou.service.LogService;
+import com.biou.service.LogStatisticsService;
+import com.biou.util.LogCursor;
+import com.biou.util.LogExportWriter;
 import com.biou.util.LogUtils;
 import com.biou.util.QueryWrapperUtils;
+import com.biou.util.UserAgentInfo;
 
 import com.biou.vo.AuditLogVO;
+import com.biou.vo.CursorPageVO;
+import com.biou.vo.LogPurgeProgressVO;
 import com.biou.vo.LoginLogVO;
 import com.biou.vo.SystemLogVO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeanUtils;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +71,58 @@ public class LogServiceImpl implements LogService {
 
     private static final Logger logger = LoggerFactory.getLogger(LogServiceImpl.class);
 
+    private static final LinkedHashMap<String, Function<AuditLogVO, Object>> AUDIT_LOG_COLUMNS = new LinkedHashMap<>();
+    private static final LinkedHashMap<String, Function<SystemLogVO, Object>> SYSTEM_LOG_COLUMNS = new LinkedHashMap<>();
+    private static final LinkedHashMap<String, Function<LoginLogVO, Object>> LOGIN_LOG_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        AUDIT_LOG_COLUMNS.put("ID", AuditLogVO::getId);
+        AUDIT_LOG_COLUMNS.put("用户ID", AuditLogVO::getUserId);
+        AUDIT_LOG_COLUMNS.put("用户名", AuditLogVO::getUsername);
+        AUDIT_LOG_COLUMNS.put("操作类型", AuditLogVO::getOperationType);
+        AUDIT_LOG_COLUMNS.put("业务类型", AuditLogVO::getBusinessType);
+        AUDIT_LOG_COLUMNS.put("操作模块", AuditLogVO::getModule);
+        AUDIT_LOG_COLUMNS.put("操作描述", AuditLogVO::getDescription);
+        AUDIT_LOG_COLUMNS.put("请求方法", AuditLogVO::getMethod);
+        AUDIT_LOG_COLUMNS.put("请求URL", AuditLogVO::getRequestUrl);
+        AUDIT_LOG_COLUMNS.put("HTTP方法", AuditLogVO::getRequestMethod);
+        AUDIT_LOG_COLUMNS.put("IP地址", AuditLogVO::getIpAddress);
+        AUDIT_LOG_COLUMNS.put("状态", AuditLogVO::getStatus);
+        AUDIT_LOG_COLUMNS.put("错误信息", AuditLogVO::getErrorMessage);
+        AUDIT_LOG_COLUMNS.put("执行时间(ms)", AuditLogVO::getExecutionTime);
+        AUDIT_LOG_COLUMNS.put("创建时间", AuditLogVO::getCreateTime);
+
+        SYSTEM_LOG_COLUMNS.put("ID", SystemLogVO::getId);
+        SYSTEM_LOG_COLUMNS.put("链路追踪ID", SystemLogVO::getTraceId);
+        SYSTEM_LOG_COLUMNS.put("日志级别", SystemLogVO::getLevel);
+        SYSTEM_LOG_COLUMNS.put("日志记录器", SystemLogVO::getLoggerName);
+        SYSTEM_LOG_COLUMNS.put("日志消息", SystemLogVO::getMessage);
+        SYSTEM_LOG_COLUMNS.put("异常信息", SystemLogVO::getException);
+        SYSTEM_LOG_COLUMNS.put("线程名称", SystemLogVO::getThreadName);
+        SYSTEM_LOG_COLUMNS.put("类名", SystemLogVO::getClassName);
+        SYSTEM_LOG_COLUMNS.put("方法名", SystemLogVO::getMethodName);
+        SYSTEM_LOG_COLUMNS.put("行号", SystemLogVO::getLineNumber);
+        SYSTEM_LOG_COLUMNS.put("创建时间", SystemLogVO::getCreateTime);
+
+        LOGIN_LOG_COLUMNS.put("ID", LoginLogVO::getId);
+        LOGIN_LOG_COLUMNS.put("用户ID", LoginLogVO::getUserId);
+        LOGIN_LOG_COLUMNS.put("用户名", LoginLogVO::getUsername);
+        LOGIN_LOG_COLUMNS.put("登录类型", LoginLogVO::getLoginType);
+        LOGIN_LOG_COLUMNS.put("IP地址", LoginLogVO::getIpAddress);
+        LOGIN_LOG_COLUMNS.put("登录地点", LoginLogVO::getLocation);
+        LOGIN_LOG_COLUMNS.put("浏览器", LoginLogVO::getBrowser);
+        LOGIN_LOG_COLUMNS.put("操作系统", LoginLogVO::getOs);
+        LOGIN_LOG_COLUMNS.put("登录状态", LoginLogVO::getStatus);
+        LOGIN_LOG_COLUMNS.put("提示消息", LoginLogVO::getMessage);
+        LOGIN_LOG_COLUMNS.put("登录时间", LoginLogVO::getLoginTime);
+    }
+
+    /**
+     * 列表查询最大返回条数，更大的结果集请使用导出接口
+     */
+    @Value("${biou.log.query.max-rows:10000}")
+    private long queryMaxRows;
+
     @Autowired
     private AuditLogMapper auditLogMapper;
 
@@ -56,20 +132,30 @@ public class LogServiceImpl implements LogService {
     @Autowired
     private LoginLogMapper loginLogMapper;
 
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private LogJournal logJournal;
+
+    @Autowired
+    private LogStatisticsService logStatisticsService;
+
+    @Autowired
+    private LogPurgeService logPurgeService;
+
+    @Autowired
+    private IpLocationService ipLocationService;
+
     @Override
     public Page<AuditLogVO> pageAuditLog(AuditLogQueryDTO queryDTO) {
         try {
-            Page<AuditLog> page = new Page<>(queryDTO.getCurrent(), queryDTO.getSize());
+            Page<AuditLog> page = new Page<>(queryDTO.getCurrent(), queryDTO.getSize(),
+                    !Boolean.FALSE.equals(queryDTO.getSearchCount()));
             page = auditLogMapper.selectPage(page, QueryWrapperUtils.buildAuditLogQueryWrapper(queryDTO));
             
             Page<AuditLogVO> result = new Page<>(page.getCurrent(), page.getSize(), page.getTotal());
-            result.setRecords(page.getRecords().stream()
-                    .map(log -> {
-                        AuditLogVO vo = new AuditLogVO();
-                        BeanUtils.copyProperties(log, vo);
-                        return vo;
-                    })
-                    .collect(Collectors.toList()));
+            result.setRecords(LogConvert.toVOList(page.getRecords()));
             return result;
         } catch (Exception e) {
             logger.error("分页查询审计日志失败", e);
@@ -80,17 +166,12 @@ public class LogServiceImpl implements LogService {
     @Override
     public Page<SystemLogVO> pageSystemLog(SystemLogQueryDTO queryDTO) {
         try {
-            Page<SystemLog> page = new Page<>(queryDTO.getCurrent(), queryDTO.getSize());
+            Page<SystemLog> page = new Page<>(queryDTO.getCurrent(), queryDTO.getSize(),
+                    !Boolean.FALSE.equals(queryDTO.getSearchCount()));
             page = systemLogMapper.selectPage(page, QueryWrapperUtils.buildSystemLogQueryWrapper(queryDTO));
             
             Page<SystemLogVO> result = new Page<>(page.getCurrent(), page.getSize(), page.getTotal());
-            result.setRecords(page.getRecords().stream()
-                    .map(log -> {
-                        SystemLogVO vo = new SystemLogVO();
-                        BeanUtils.copyProperties(log, vo);
-                        return vo;
-                    })
-                    .collect(Collectors.toList()));
+            result.setRecords(LogConvert.toSystemLogVOList(page.getRecords()));
             return result;
         } catch (Exception e) {
             logger.error("分页查询系统日志失败", e);
@@ -101,17 +182,12 @@ public class LogServiceImpl implements LogService {
     @Override
     public Page<LoginLogVO> pageLoginLog(LoginLogQueryDTO queryDTO) {
         try {
-            Page<LoginLog> page = new Page<>(queryDTO.getCurrent(), queryDTO.getSize());
+            Page<LoginLog> page = new Page<>(queryDTO.getCurrent(), queryDTO.getSize(),
+                    !Boolean.FALSE.equals(queryDTO.getSearchCount()));
             page = loginLogMapper.selectPage(page, QueryWrapperUtils.buildLoginLogQueryWrapper(queryDTO));
             
             Page<LoginLogVO> result = new Page<>(page.getCurrent(), page.getSize(), page.getTotal());
-            result.setRecords(page.getRecords().stream()
-                    .map(log -> {
-                        LoginLogVO vo = new LoginLogVO();
-                        BeanUtils.copyProperties(log, vo);
-                        return vo;
-                    })
-                    .collect(Collectors.toList()));
+            result.setRecords(LogConvert.toLoginLogVOList(page.getRecords()));
             return result;
         } catch (Exception e) {
             logger.error("分页查询登录日志失败", e);
@@ -120,35 +196,77 @@ public class LogServiceImpl implements LogService {
     }
 
     @Override
-    public void saveAuditLog(AuditLog auditLog) {
+    public CursorPageVO<AuditLogVO> cursorAuditLog(AuditLogQueryDTO queryDTO) {
+        LogCursor cursor = LogCursor.decode(queryDTO.getCursor());
         try {
-            auditLogMapper.insert(auditLog);
+            return seek(auditLogMapper, QueryWrapperUtils.buildAuditLogQueryWrapper(queryDTO), queryDTO, cursor,
+                    AuditLog::getCreateTime, AuditLog::getId,
+                    log -> new LogCursor(log.getCreateTime(), log.getId()),
+                    LogConvert::toVO);
         } catch (Exception e) {
-            logger.error("保存审计日志失败", e);
-            // 这里不抛出异常，避免影响主业务流程
+            logger.error("游标分页查询审计日志失败", e);
+            throw new RuntimeException("游标分页查询审计日志失败", e);
         }
     }
 
     @Override
-    public void saveSystemLog(SystemLog systemLog) {
+    public CursorPageVO<SystemLogVO> cursorSystemLog(SystemLogQueryDTO queryDTO) {
+        LogCursor cursor = LogCursor.decode(queryDTO.getCursor());
         try {
-            systemLogMapper.insert(systemLog);
+            return seek(systemLogMapper, QueryWrapperUtils.buildSystemLogQueryWrapper(queryDTO), queryDTO, cursor,
+                    SystemLog::getCreateTime, SystemLog::getId,
+                    log -> new LogCursor(log.getCreateTime(), log.getId()),
+                    LogConvert::toVO);
         } catch (Exception e) {
-            logger.error("保存系统日志失败", e);
-            // 这里不抛出异常，避免影响主业务流程
+            logger.error("游标分页查询系统日志失败", e);
+            throw new RuntimeException("游标分页查询系统日志失败", e);
         }
     }
 
     @Override
-    public void saveLoginLog(LoginLog loginLog) {
+    public CursorPageVO<LoginLogVO> cursorLoginLog(LoginLogQueryDTO queryDTO) {
+        LogCursor cursor = LogCursor.decode(queryDTO.getCursor());
         try {
-            loginLogMapper.insert(loginLog);
+            return seek(loginLogMapper, QueryWrapperUtils.buildLoginLogQueryWrapper(queryDTO), queryDTO, cursor,
+                    LoginLog::getLoginTime, LoginLog::getId,
+                    log -> new LogCursor(log.getLoginTime(), log.getId()),
+                    LogConvert::toVO);
         } catch (Exception e) {
-            logger.error("保存登录日志失败", e);
+            logger.error("游标分页查询登录日志失败", e);
+            throw new RuntimeException("游标分页查询登录日志失败", e);
+        }
+    }
+
+    @Override
+    public void saveAuditLog(AuditLog auditLog) {
+        try {
+            auditLogWriter.submit(auditLog);
+        } catch (Exception e) {
+            logger.error("保存审计日志失败", e);
             // 这里不抛出异常，避免影响主业务流程
         }
     }
 
+    @Override
+    public void saveSystemLog(SystemLog systemLog) {
+        persist(LogJournalRecordType.SYSTEM, Collections.singletonList(systemLog),
+                logs -> systemLogMapper.insert(systemLog), "保存系统日志失败");
+    }
+
+    @Override
+    public void saveSystemLogBatch(List<SystemLog> systemLogs) {
+        if (systemLogs == null || systemLogs.isEmpty()) {
+            return;
+        }
+        persist(LogJournalRecordType.SYSTEM, systemLogs, systemLogMapper::batchInsert, "批量保存系统日志失败");
+    }
+
+    @Override
+    public void saveLoginLog(LoginLog loginLog) {
+        persist(LogJournalRecordType.LOGIN, Collections.singletonList(loginLog),
+                logs -> loginLogMapper.insert(loginLog), "保存登录日志失败");
+    }
+
     @Override
     public void recordAuditLog(Long userId, String username, String operationType, String businessType,
                               String module, String description, String method, String requestUrl,
@@ -175,7 +293,8 @@ public class LogServiceImpl implements LogService {
             auditLog.setExecutionTime(executionTime);
             auditLog.setCreateTime(LocalDateTime.now());
 
-            auditLogMapper.insert(auditLog);
+            // 入队后由写线程批量落库，不阻塞业务请求
+            auditLogWriter.submit(auditLog);
         } catch (Exception e) {
             logger.error("记录审计日志失败", e);
         }
@@ -189,16 +308,18 @@ public class LogServiceImpl implements LogService {
             loginLog.setUserId(userId);
             loginLog.setUsername(username);
             loginLog.setLoginType(loginType);
-            loginLog.setIpAddress(LogUtils.getIpAddress(request));
+            String ipAddress = LogUtils.getIpAddress(request);
+            loginLog.setIpAddress(ipAddress);
             loginLog.setUserAgent(LogUtils.getUserAgent(request));
-            loginLog.setLocation(LogUtils.getLocation(request));
-            loginLog.setBrowser(LogUtils.getBrowser(request));
-            loginLog.setOs(LogUtils.getOs(request));
+            loginLog.setLocation(ipLocationService.resolve(ipAddress));
+            UserAgentInfo userAgentInfo = LogUtils.parseUserAgent(request);
+            loginLog.setBrowser(userAgentInfo.getBrowser());
+            loginLog.setOs(userAgentInfo.getOs());
             loginLog.setStatus(status);
             loginLog.setMessage(message);
             loginLog.setLoginTime(LocalDateTime.now());
 
-            loginLogMapper.insert(loginLog);
+            saveLoginLog(loginLog);
         } catch (Exception e) {
             logger.error("记录登录日志失败", e);
         }
@@ -219,7 +340,7 @@ public class LogServiceImpl implements LogService {
             systemLog.setLineNumber(lineNumber);
             systemLog.setCreateTime(LocalDateTime.now());
 
-            systemLogMapper.insert(systemLog);
+            saveSystemLog(systemLog);
         } catch (Exception e) {
             logger.error("记录系统日志失败", e);
         }
@@ -227,75 +348,34 @@ public class LogServiceImpl implements LogService {
 
     @Override
     public Map<String, Long> cleanExpiredLogs(Integer days) {
-        Map<String, Long> result = new HashMap<>();
         LocalDateTime beforeDate = LocalDateTime.now().minusDays(days);
 
         try {
-            // 清理审计日志
-            long auditLogCount = auditLogMapper.selectCount(new LambdaQueryWrapper<AuditLog>().lt(AuditLog::getCreateTime, beforeDate));
-            int deletedAuditLogs = auditLogMapper.delete(new LambdaQueryWrapper<AuditLog>().lt(AuditLog::getCreateTime, beforeDate));
-            result.put("auditLog", (long) deletedAuditLogs);
-            
-            // 清理系统日志
-            long systemLogCount = systemLogMapper.selectCount(new LambdaQueryWrapper<SystemLog>().lt(SystemLog::getCreateTime, beforeDate));
-            int deletedSystemLogs = systemLogMapper.delete(new LambdaQueryWrapper<SystemLog>().lt(SystemLog::getCreateTime, beforeDate));
-            result.put("systemLog", (long) deletedSystemLogs);
-            
-            // 清理登录日志
-            long loginLogCount = loginLogMapper.selectCount(new LambdaQueryWrapper<LoginLog>().lt(LoginLog::getLoginTime, beforeDate));
-            int deletedLoginLogs = loginLogMapper.delete(new LambdaQueryWrapper<LoginLog>().lt(LoginLog::getLoginTime, beforeDate));
-            result.put("loginLog", (long) deletedLoginLogs);
-            
-            logger.info("清理过期日志完成，审计日志：{}/{}，系统日志：{}/{}，登录日志：{}/{}",
-                    deletedAuditLogs, auditLogCount,
-                    deletedSystemLogs, systemLogCount,
-                    deletedLoginLogs, loginLogCount);
+            Map<String, Long> deleted = logPurgeService.purgeAll(beforeDate);
+            Map<String, Long> result = new HashMap<>();
+            result.put("auditLog", deleted.getOrDefault(LogConstants.LogType.AUDIT, 0L));
+            result.put("systemLog", deleted.getOrDefault(LogConstants.LogType.SYSTEM, 0L));
+            result.put("loginLog", deleted.getOrDefault(LogConstants.LogType.LOGIN, 0L));
+
+            logger.info("清理过期日志完成，审计日志：{}，系统日志：{}，登录日志：{}",
+                    result.get("auditLog"), result.get("systemLog"), result.get("loginLog"));
+            return result;
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("清理过期日志失败", e);
             throw new RuntimeException("清理过期日志失败", e);
         }
-
-        return result;
     }
 
     @Override
     public Map<String, Map<String, Long>> getLogStatistics(LocalDateTime startTime) {
-        Map<String, Map<String, Long>> statistics = new HashMap<>();
-
         try {
-            // 统计审计日志
-            long auditLogTotal = auditLogMapper.selectCount(new LambdaQueryWrapper<AuditLog>().ge(AuditLog::getCreateTime, startTime));
-            long auditLogSuccess = auditLogMapper.selectCount(new LambdaQueryWrapper<AuditLog>().ge(AuditLog::getCreateTime, startTime).eq(AuditLog::getStatus, 1));
-            Map<String, Long> auditStats = new HashMap<>();
-            auditStats.put("total", auditLogTotal);
-            auditStats.put("success", auditLogSuccess);
-            auditStats.put("fail", auditLogTotal - auditLogSuccess);
-            
-            // 统计系统日志
-            long systemLogTotal = systemLogMapper.selectCount(new LambdaQueryWrapper<SystemLog>().ge(SystemLog::getCreateTime, startTime));
-            long systemLogError = systemLogMapper.selectCount(new LambdaQueryWrapper<SystemLog>().ge(SystemLog::getCreateTime, startTime).eq(SystemLog::getStatus, 0));
-            Map<String, Long> systemStats = new HashMap<>();
-            systemStats.put("total", systemLogTotal);
-            systemStats.put("error", systemLogError);
-            systemStats.put("normal", systemLogTotal - systemLogError);
-            
-            // 统计登录日志
-            long loginLogTotal = loginLogMapper.selectCount(new LambdaQueryWrapper<LoginLog>().ge(LoginLog::getLoginTime, startTime));
-            long loginLogSuccess = loginLogMapper.selectCount(new LambdaQueryWrapper<LoginLog>().ge(LoginLog::getLoginTime, startTime).eq(LoginLog::getStatus, 1));
-            Map<String, Long> loginStats = new HashMap<>();
-            loginStats.put("total", loginLogTotal);
-            loginStats.put("success", loginLogSuccess);
-            loginStats.put("fail", loginLogTotal - loginLogSuccess);
-
-            statistics.put("auditLog", auditStats);
-            statistics.put("systemLog", systemStats);
-            statistics.put("loginLog", loginStats);
+            return logStatisticsService.getLogStatistics(startTime);
         } catch (Exception e) {
             logger.error("获取日志统计信息失败", e);
             throw new RuntimeException("获取日志统计信息失败", e);
         }
-
-        return statistics;
     }
 
     /**
@@ -329,66 +409,133 @@ public class LogServiceImpl implements LogService {
     @Override
     public List<AuditLogVO> queryAuditLogs(AuditLogQueryDTO queryDTO) {
         LambdaQueryWrapper<AuditLog> wrapper = QueryWrapperUtils.buildAuditLogQueryWrapper(queryDTO);
+        wrapper.last("LIMIT " + queryMaxRows);
         List<AuditLog> logs = auditLogMapper.selectList(wrapper);
-        return logs.stream()
-                .map(log -> {
-                    AuditLogVO vo = new AuditLogVO();
-                    BeanUtils.copyProperties(log, vo);
-                    return vo;
-                })
-                .collect(Collectors.toList());
+        return LogConvert.toVOList(logs);
     }
 
     @Override
     public List<SystemLogVO> querySystemLogs(SystemLogQueryDTO queryDTO) {
         LambdaQueryWrapper<SystemLog> wrapper = QueryWrapperUtils.buildSystemLogQueryWrapper(queryDTO);
+        wrapper.last("LIMIT " + queryMaxRows);
         List<SystemLog> logs = systemLogMapper.selectList(wrapper);
-        return logs.stream()
-                .map(log -> {
-                    SystemLogVO vo = new SystemLogVO();
-                    BeanUtils.copyProperties(log, vo);
-                    return vo;
-                })
-                .collect(Collectors.toList());
+        return LogConvert.toSystemLogVOList(logs);
     }
 
     @Override
     public List<LoginLogVO> queryLoginLogs(LoginLogQueryDTO queryDTO) {
         LambdaQueryWrapper<LoginLog> wrapper = QueryWrapperUtils.buildLoginLogQueryWrapper(queryDTO);
+        wrapper.last("LIMIT " + queryMaxRows);
         List<LoginLog> logs = loginLogMapper.selectList(wrapper);
-        return logs.stream()
-                .map(log -> {
-                    LoginLogVO vo = new LoginLogVO();
-                    BeanUtils.copyProperties(log, vo);
-                    return vo;
-                })
-                .collect(Collectors.toList());
+        return LogConvert.toLoginLogVOList(logs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAuditLogs(AuditLogQueryDTO queryDTO, LogExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Cursor<AuditLog> cursor = auditLogMapper.selectCursor(QueryWrapperUtils.buildAuditLogQueryWrapper(queryDTO));
+        return export(cursor, format, outputStream, AUDIT_LOG_COLUMNS, LogConvert::toVO);
     }
 
     @Override
-    public int cleanAuditLogs(Integer days) {
+    @Transactional(readOnly = true)
+    public long exportSystemLogs(SystemLogQueryDTO queryDTO, LogExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Cursor<SystemLog> cursor = systemLogMapper.selectCursor(QueryWrapperUtils.buildSystemLogQueryWrapper(queryDTO));
+        return export(cursor, format, outputStream, SYSTEM_LOG_COLUMNS, LogConvert::toVO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportLoginLogs(LoginLogQueryDTO queryDTO, LogExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Cursor<LoginLog> cursor = loginLogMapper.selectCursor(QueryWrapperUtils.buildLoginLogQueryWrapper(queryDTO));
+        return export(cursor, format, outputStream, LOGIN_LOG_COLUMNS, LogConvert::toVO);
+    }
+
+    @Override
+    public LogPurgeProgressVO cleanAuditLogs(Integer days) {
         LocalDateTime threshold = LocalDateTime.now().minusDays(days);
-        LambdaQueryWrapper<AuditLog> wrapper = new LambdaQueryWrapper<>();
-        wrapper.lt(AuditLog::getCreateTime, threshold);
-        return auditLogMapper.delete(wrapper);
+        return logPurgeService.submitPurge(LogConstants.LogType.AUDIT, threshold);
     }
 
     @Override
-    public int cleanAllLogs(Integer days) {
+    public LogPurgeProgressVO cleanAllLogs(Integer days) {
         LocalDateTime threshold = LocalDateTime.now().minusDays(days);
-        
-        LambdaQueryWrapper<AuditLog> auditWrapper = new LambdaQueryWrapper<>();
-        auditWrapper.lt(AuditLog::getCreateTime, threshold);
-        int auditCount = auditLogMapper.delete(auditWrapper);
+        return logPurgeService.submitPurgeAll(threshold);
+    }
+
+    /**
+     * 写入数据库，数据库不可用或写入失败时转存本地落盘日志，待恢复后回放
+     */
+    private <T> void persist(LogJournalRecordType type, List<T> logs, Consumer<List<T>> writer, String errorMessage) {
+        if (logJournal.shouldBypassDatabase() && logJournal.append(type, logs)) {
+            return;
+        }
+        try {
+            writer.accept(logs);
+        } catch (Exception e) {
+            logger.error(errorMessage, e);
+            // 这里不抛出异常，避免影响主业务流程
+            if (!logJournal.spill(type, logs, e)) {
+                logger.error("日志落盘失败，丢弃 {} 条", logs.size());
+            }
+        }
+    }
 
-        LambdaQueryWrapper<SystemLog> systemWrapper = new LambdaQueryWrapper<>();
-        systemWrapper.lt(SystemLog::getCreateTime, threshold);
-        int systemCount = systemLogMapper.delete(systemWrapper);
+    /**
+     * 按(时间, ID)倒序进行游标分页，利用时间索引直接定位，避免OFFSET扫描
+     * 仅在首页且searchCount为true时统计总数
+     */
+    private <E, V> CursorPageVO<V> seek(BaseMapper<E> mapper, LambdaQueryWrapper<E> wrapper, PageQueryDTO queryDTO,
+                                        LogCursor cursor, SFunction<E, LocalDateTime> timeColumn,
+                                        SFunction<E, Long> idColumn, Function<E, LogCursor> cursorExtractor,
+                                        Function<E, V> converter) {
+        long size = queryDTO.getSize() == null || queryDTO.getSize() <= 0 ? 10L
+                : Math.min(queryDTO.getSize(), LogConstants.MAX_CURSOR_PAGE_SIZE);
+
+        CursorPageVO<V> result = new CursorPageVO<>();
+        result.setSize(size);
+        if (cursor == null && !Boolean.FALSE.equals(queryDTO.getSearchCount())) {
+            result.setTotal(mapper.selectCount(wrapper));
+        }
 
-        LambdaQueryWrapper<LoginLog> loginWrapper = new LambdaQueryWrapper<>();
-        loginWrapper.lt(LoginLog::getLoginTime, threshold);
-        int loginCount = loginLogMapper.delete(loginWrapper);
+        // 时间相同的记录按ID倒序，保证翻页顺序稳定
+        wrapper.orderByDesc(idColumn);
+        if (cursor != null) {
+            wrapper.and(w -> w.lt(timeColumn, cursor.getTime())
+                    .or(o -> o.eq(timeColumn, cursor.getTime()).lt(idColumn, cursor.getId())));
+        }
+        // 多取一条用于判断是否还有下一页
+        wrapper.last("LIMIT " + (size + 1));
 
-        return auditCount + systemCount + loginCount;
+        List<E> records = mapper.selectList(wrapper);
+        boolean hasMore = records.size() > size;
+        if (hasMore) {
+            records = records.subList(0, (int) size);
+        }
+
+        result.setHasMore(hasMore);
+        if (hasMore) {
+            result.setNextCursor(cursorExtractor.apply(records.get(records.size() - 1)).encode());
+        }
+        result.setRecords(records.stream().map(converter).collect(Collectors.toList()));
+        return result;
+    }
+
+    /**
+     * 逐行读取游标并写入输出流，内存占用与结果集大小无关
+     */
+    private <E, V> long export(Cursor<E> cursor, LogExportFormat format, OutputStream outputStream,
+                               LinkedHashMap<String, Function<V, Object>> columns,
+                               Function<E, V> converter) throws IOException {
+        try (Cursor<E> rows = cursor;
+             LogExportWriter<V> writer = new LogExportWriter<>(outputStream, format, columns)) {
+            for (E row : rows) {
+                writer.write(converter.apply(row));
+            }
+            return writer.getRowCount();
+        }
     }
-} 
\ No newline at end of file
+}
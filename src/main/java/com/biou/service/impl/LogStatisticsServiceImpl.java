@@ -0,0 +1,178 @@
+package com.biou.service.impl;
+
+import com.biou.constant.LogConstants;
+import com.biou.entity.LogStatistic;
+import com.biou.mapper.LogStatisticsMapper;
+import com.biou.service.LogStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 日志统计服务实现类
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Service
+public class LogStatisticsServiceImpl implements LogStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogStatisticsServiceImpl.class);
+
+    private static final String[] LOG_TYPES = {
+            LogConstants.LogType.AUDIT, LogConstants.LogType.SYSTEM, LogConstants.LogType.LOGIN
+    };
+
+    @Autowired
+    private LogStatisticsMapper logStatisticsMapper;
+
+    /**
+     * 单次汇总的最大ID跨度
+     */
+    @Value("${biou.log.statistics.rollup-chunk-size:50000}")
+    private long rollupChunkSize;
+
+    /**
+     * 只汇总早于该秒数的日志，避免遗漏尚未提交的并发写入
+     */
+    @Value("${biou.log.statistics.rollup-settle-seconds:60}")
+    private long rollupSettleSeconds;
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean rollupNext(String logType) {
+        Long lastId = logStatisticsMapper.selectWatermarkForUpdate(logType);
+        if (lastId == null) {
+            logger.warn("未找到日志类型 {} 的汇总水位，请先执行v1.2.0数据库迁移脚本", logType);
+            return false;
+        }
+
+        Long maxId = logStatisticsMapper.selectMaxLogId(logType);
+        if (maxId == null || maxId <= lastId) {
+            return false;
+        }
+
+        long toId = Math.min(maxId, lastId + rollupChunkSize);
+        Long firstRecentId = logStatisticsMapper.selectFirstLogIdAfter(logType, lastId, toId,
+                LocalDateTime.now().minusSeconds(rollupSettleSeconds));
+        if (firstRecentId != null) {
+            toId = firstRecentId - 1;
+        }
+        if (toId <= lastId) {
+            return false;
+        }
+
+        logStatisticsMapper.rollupHourly(logType, lastId, toId);
+        logStatisticsMapper.rollupDaily(logType, lastId, toId);
+        logStatisticsMapper.updateWatermark(logType, toId);
+        logger.debug("日志类型 {} 已汇总至ID {}", logType, toId);
+        return firstRecentId == null && toId < maxId;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> getLogStatistics(LocalDateTime startTime) {
+        // 汇总表按整点统计，开始时间不在整点时首个不完整小时从日志表统计
+        LocalDateTime startHour = startTime.truncatedTo(ChronoUnit.HOURS);
+        if (startHour.isBefore(startTime)) {
+            startHour = startHour.plusHours(1);
+        }
+        LocalDateTime firstDay = startHour.truncatedTo(ChronoUnit.DAYS);
+        if (firstDay.isBefore(startHour)) {
+            firstDay = firstDay.plusDays(1);
+        }
+        LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+
+        // 首尾不足一天的部分读小时表，中间整天读天表
+        List<LogStatistic> rows = new ArrayList<>();
+        if (firstDay.isBefore(today)) {
+            if (startHour.isBefore(firstDay)) {
+                rows.addAll(logStatisticsMapper.selectHourlySummary(startHour, firstDay));
+            }
+            rows.addAll(logStatisticsMapper.selectDailySummary(firstDay, today));
+            rows.addAll(logStatisticsMapper.selectHourlySummary(today, null));
+        } else {
+            rows.addAll(logStatisticsMapper.selectHourlySummary(startHour, null));
+        }
+
+        for (String logType : LOG_TYPES) {
+            Long watermark = logStatisticsMapper.selectWatermark(logType);
+            long lastId = watermark == null ? 0L : watermark;
+            if (startTime.isBefore(startHour) && lastId > 0) {
+                rows.addAll(logStatisticsMapper.selectRolledRangeSummary(logType, lastId, startTime, startHour));
+            }
+            // 汇总水位之后的新日志实时统计
+            rows.addAll(logStatisticsMapper.selectUnrolledSummary(logType, lastId, startTime));
+        }
+
+        return aggregate(rows);
+    }
+
+    /**
+     * 合并各维度数量
+     */
+    private Map<String, Map<String, Long>> aggregate(List<LogStatistic> rows) {
+        Map<String, Long> auditStats = new HashMap<>();
+        Map<String, Long> systemStats = new HashMap<>();
+        Map<String, Long> loginStats = new HashMap<>();
+        Map<String, Long> auditByModule = new HashMap<>();
+        Map<String, Long> auditByOperationType = new HashMap<>();
+        Map<String, Long> systemByLevel = new HashMap<>();
+
+        for (LogStatistic row : rows) {
+            long count = row.getLogCount() == null ? 0L : row.getLogCount();
+            if (LogConstants.LogType.AUDIT.equals(row.getLogType())) {
+                auditStats.merge("total", count, Long::sum);
+                if (row.getStatus() != null && row.getStatus() == LogConstants.Status.SUCCESS) {
+                    auditStats.merge("success", count, Long::sum);
+                }
+                auditByModule.merge(row.getModule(), count, Long::sum);
+                auditByOperationType.merge(row.getOperationType(), count, Long::sum);
+            } else if (LogConstants.LogType.SYSTEM.equals(row.getLogType())) {
+                systemStats.merge("total", count, Long::sum);
+                if (LogConstants.LogLevel.ERROR.equals(row.getLevel())) {
+                    systemStats.merge("error", count, Long::sum);
+                }
+                systemByLevel.merge(row.getLevel(), count, Long::sum);
+            } else if (LogConstants.LogType.LOGIN.equals(row.getLogType())) {
+                loginStats.merge("total", count, Long::sum);
+                if (row.getStatus() != null && row.getStatus() == LogConstants.Status.SUCCESS) {
+                    loginStats.merge("success", count, Long::sum);
+                }
+            }
+        }
+
+        long auditTotal = auditStats.getOrDefault("total", 0L);
+        auditStats.put("total", auditTotal);
+        auditStats.put("success", auditStats.getOrDefault("success", 0L));
+        auditStats.put("fail", auditTotal - auditStats.get("success"));
+
+        long systemTotal = systemStats.getOrDefault("total", 0L);
+        systemStats.put("total", systemTotal);
+        systemStats.put("error", systemStats.getOrDefault("error", 0L));
+        systemStats.put("normal", systemTotal - systemStats.get("error"));
+
+        long loginTotal = loginStats.getOrDefault("total", 0L);
+        loginStats.put("total", loginTotal);
+        loginStats.put("success", loginStats.getOrDefault("success", 0L));
+        loginStats.put("fail", loginTotal - loginStats.get("success"));
+
+        Map<String, Map<String, Long>> statistics = new HashMap<>();
+        statistics.put("auditLog", auditStats);
+        statistics.put("systemLog", systemStats);
+        statistics.put("loginLog", loginStats);
+        statistics.put("auditLogByModule", auditByModule);
+        statistics.put("auditLogByOperationType", auditByOperationType);
+        statistics.put("systemLogByLevel", systemByLevel);
+        return statistics;
+    }
+}
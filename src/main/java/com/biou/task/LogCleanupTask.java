@@ -1,5 +1,6 @@
 package com.biou.task;
 
+import com.biou.service.LogPartitionService;
 import com.biou.service.LogService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,9 @@ public class LogCleanupTask {
     @Autowired
     private LogService logService;
 
+    @Autowired
+    private LogPartitionService logPartitionService;
+
     /**
      * 日志保留天数，默认90天
      */
@@ -49,7 +53,14 @@ public class LogCleanupTask {
 
         try {
             logger.info("开始执行日志清理任务，保留天数：{}", retentionDays);
-            
+
+            // 分区表先整区删除过期数据，剩余不足一个分区的部分再分块删除
+            if (logPartitionService.isEnabled()) {
+                Map<String, Integer> dropped = logPartitionService.dropExpiredPartitions(
+                        LocalDateTime.now().minusDays(retentionDays));
+                logger.info("过期日志分区删除完成，详情：{}", dropped);
+            }
+
             Map<String, Long> result = logService.cleanExpiredLogs(retentionDays);
             
             long totalCleaned = result.values().stream().mapToLong(Long::longValue).sum();
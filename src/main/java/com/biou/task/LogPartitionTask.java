@@ -0,0 +1,32 @@
+package com.biou.task;
+
+import com.biou.service.LogPartitionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 日志表分区维护定时任务
+ * 启动后及之后定期预建未来分区，避免新数据全部落入兜底分区
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class LogPartitionTask {
+
+    @Autowired
+    private LogPartitionService logPartitionService;
+
+    /**
+     * 预建未来分区
+     */
+    @Scheduled(initialDelayString = "${biou.log.partition.initial-delay-ms:30000}",
+            fixedDelayString = "${biou.log.partition.interval-ms:21600000}")
+    public void createFuturePartitions() {
+        if (!logPartitionService.isEnabled()) {
+            return;
+        }
+        logPartitionService.createFuturePartitions();
+    }
+}
@@ -0,0 +1,53 @@
+package com.biou.task;
+
+import com.biou.constant.LogConstants;
+import com.biou.service.LogStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 日志统计增量汇总定时任务
+ * 按日志ID水位将新日志累加到按小时/按天汇总表，每批在独立事务中完成
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+@Component
+public class LogStatisticsRollupTask {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogStatisticsRollupTask.class);
+
+    @Autowired
+    private LogStatisticsService logStatisticsService;
+
+    /**
+     * 是否启用增量汇总，默认启用
+     */
+    @Value("${biou.log.statistics.rollup-enabled:true}")
+    private boolean rollupEnabled;
+
+    /**
+     * 定时汇总新增日志
+     */
+    @Scheduled(fixedDelayString = "${biou.log.statistics.rollup-interval-ms:60000}")
+    public void rollup() {
+        if (!rollupEnabled) {
+            return;
+        }
+
+        for (String logType : new String[]{LogConstants.LogType.AUDIT, LogConstants.LogType.SYSTEM,
+                LogConstants.LogType.LOGIN}) {
+            try {
+                while (logStatisticsService.rollupNext(logType)) {
+                    logger.debug("日志类型 {} 仍有待汇总数据，继续汇总", logType);
+                }
+            } catch (Exception e) {
+                logger.error("日志统计汇总失败，日志类型：{}", logType, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.biou.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 离线IP地址库
+ * 从文本文件加载IP段，IPv4和IPv6分别保存为按起始地址排序的基本类型数组，
+ * 查询时二分查找，不访问网络；地点名称去重后以下标引用。加载完成后只读，可在线程间共享
+ * <p>
+ * 文件每行一条记录：起始IP,结束IP,地点，以#开头的行为注释；同一地址族内的IP段不应重叠
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public final class IpLocationDatabase {
+
+    private static final IpLocationDatabase EMPTY = new IpLocationDatabase(new int[0], new int[0], new int[0],
+            new long[0], new long[0], new long[0], new long[0], new int[0], new String[0]);
+
+    /**
+     * IPv4地址与Integer.MIN_VALUE异或后按有符号数比较，等价于无符号比较
+     */
+    private final int[] v4Starts;
+    private final int[] v4Ends;
+    private final int[] v4Locations;
+
+    /**
+     * IPv6地址拆分为高低两个64位，同样异或符号位后按有符号数比较
+     */
+    private final long[] v6StartHighs;
+    private final long[] v6StartLows;
+    private final long[] v6EndHighs;
+    private final long[] v6EndLows;
+    private final int[] v6Locations;
+
+    private final String[] locations;
+
+    private IpLocationDatabase(int[] v4Starts, int[] v4Ends, int[] v4Locations,
+                               long[] v6StartHighs, long[] v6StartLows, long[] v6EndHighs, long[] v6EndLows,
+                               int[] v6Locations, String[] locations) {
+        this.v4Starts = v4Starts;
+        this.v4Ends = v4Ends;
+        this.v4Locations = v4Locations;
+        this.v6StartHighs = v6StartHighs;
+        this.v6StartLows = v6StartLows;
+        this.v6EndHighs = v6EndHighs;
+        this.v6EndLows = v6EndLows;
+        this.v6Locations = v6Locations;
+        this.locations = locations;
+    }
+
+    public static IpLocationDatabase empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 从文件加载地址库
+     *
+     * @param path 文件路径
+     * @return 地址库
+     * @throws IOException 文件读取失败或存在无法解析的记录
+     */
+    public static IpLocationDatabase load(Path path) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> locations = new ArrayList<>();
+        List<long[]> v4Ranges = new ArrayList<>();
+        List<long[]> v6Ranges = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                int first = line.indexOf(',');
+                int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+                if (second < 0) {
+                    throw new IOException("IP地址库第" + lineNumber + "行格式错误：" + line);
+                }
+                String start = line.substring(0, first).trim();
+                String end = line.substring(first + 1, second).trim();
+                String location = line.substring(second + 1).trim();
+
+                Integer locationId = dictionary.get(location);
+                if (locationId == null) {
+                    locationId = locations.size();
+                    dictionary.put(location, locationId);
+                    locations.add(location);
+                }
+
+                long startV4 = parseIpv4(start);
+                long endV4 = parseIpv4(end);
+                if (startV4 >= 0 && endV4 >= 0) {
+                    v4Ranges.add(new long[]{startV4, endV4, locationId});
+                    continue;
+                }
+                long[] startV6 = parseIpv6(start);
+                long[] endV6 = parseIpv6(end);
+                if (startV6 == null || endV6 == null) {
+                    throw new IOException("IP地址库第" + lineNumber + "行IP地址无效：" + line);
+                }
+                v6Ranges.add(new long[]{startV6[0] ^ Long.MIN_VALUE, startV6[1] ^ Long.MIN_VALUE,
+                        endV6[0] ^ Long.MIN_VALUE, endV6[1] ^ Long.MIN_VALUE, locationId});
+            }
+        }
+
+        v4Ranges.sort(Comparator.comparingLong(range -> range[0]));
+        int[] v4Starts = new int[v4Ranges.size()];
+        int[] v4Ends = new int[v4Ranges.size()];
+        int[] v4Locations = new int[v4Ranges.size()];
+        for (int i = 0; i < v4Ranges.size(); i++) {
+            long[] range = v4Ranges.get(i);
+            v4Starts[i] = (int) range[0] ^ Integer.MIN_VALUE;
+            v4Ends[i] = (int) range[1] ^ Integer.MIN_VALUE;
+            v4Locations[i] = (int) range[2];
+        }
+
+        v6Ranges.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        long[] v6StartHighs = new long[v6Ranges.size()];
+        long[] v6StartLows = new long[v6Ranges.size()];
+        long[] v6EndHighs = new long[v6Ranges.size()];
+        long[] v6EndLows = new long[v6Ranges.size()];
+        int[] v6Locations = new int[v6Ranges.size()];
+        for (int i = 0; i < v6Ranges.size(); i++) {
+            long[] range = v6Ranges.get(i);
+            v6StartHighs[i] = range[0];
+            v6StartLows[i] = range[1];
+            v6EndHighs[i] = range[2];
+            v6EndLows[i] = range[3];
+            v6Locations[i] = (int) range[4];
+        }
+
+        return new IpLocationDatabase(v4Starts, v4Ends, v4Locations,
+                v6StartHighs, v6StartLows, v6EndHighs, v6EndLows, v6Locations, locations.toArray(new String[0]));
+    }
+
+    /**
+     * 查询IPv4地址所在地点
+     *
+     * @param ip {@link #parseIpv4(String)} 的返回值
+     * @return 地点，未收录时返回null
+     */
+    public String findIpv4(long ip) {
+        int key = (int) ip ^ Integer.MIN_VALUE;
+        int low = 0;
+        int high = v4Starts.length - 1;
+        // 查找起始地址不大于目标地址的最后一个IP段
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (v4Starts[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high >= 0 && key <= v4Ends[high] ? locations[v4Locations[high]] : null;
+    }
+
+    /**
+     * 查询IPv6地址所在地点
+     *
+     * @param high64 地址高64位
+     * @param low64  地址低64位
+     * @return 地点，未收录时返回null
+     */
+    public String findIpv6(long high64, long low64) {
+        long keyHigh = high64 ^ Long.MIN_VALUE;
+        long keyLow = low64 ^ Long.MIN_VALUE;
+        int low = 0;
+        int high = v6StartHighs.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (v6StartHighs[mid] < keyHigh || (v6StartHighs[mid] == keyHigh && v6StartLows[mid] <= keyLow)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0) {
+            return null;
+        }
+        boolean inRange = keyHigh < v6EndHighs[high] || (keyHigh == v6EndHighs[high] && keyLow <= v6EndLows[high]);
+        return inRange ? locations[v6Locations[high]] : null;
+    }
+
+    /**
+     * IP段总数
+     */
+    public int size() {
+        return v4Starts.length + v6StartHighs.length;
+    }
+
+    /**
+     * 不同地点的数量
+     */
+    public int locationCount() {
+        return locations.length;
+    }
+
+    /**
+     * 解析点分十进制IPv4地址，不创建对象
+     *
+     * @param ip IP字符串
+     * @return 0到2^32-1之间的地址值，不是合法IPv4地址时返回-1
+     */
+    public static long parseIpv4(String ip) {
+        if (ip == null || ip.isEmpty() || ip.length() > 15) {
+            return -1;
+        }
+        long result = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = 0; i < ip.length(); i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1;
+                }
+            } else if (c == '.' && digits > 0 && dots < 3) {
+                result = (result << 8) | octet;
+                octet = 0;
+                digits = 0;
+                dots++;
+            } else {
+                return -1;
+            }
+        }
+        if (dots != 3 || digits == 0) {
+            return -1;
+        }
+        return (result << 8) | octet;
+    }
+
+    /**
+     * 解析IPv6地址字面量，不进行域名解析
+     *
+     * @param ip IP字符串
+     * @return 高64位和低64位，不是合法IPv6地址时返回null
+     */
+    public static long[] parseIpv6(String ip) {
+        if (StringUtils.isBlank(ip) || ip.indexOf(':') < 0) {
+            return null;
+        }
+        try {
+            // 含冒号的字面量不会触发DNS查询
+            byte[] bytes = InetAddress.getByName(ip).getAddress();
+            if (bytes.length == 4) {
+                // ::ffff:a.b.c.d 形式会被还原为IPv4地址，统一按IPv4映射地址表示
+                return new long[]{0L, 0xFFFF00000000L | ((bytes[0] & 0xFFL) << 24) | ((bytes[1] & 0xFFL) << 16)
+                        | ((bytes[2] & 0xFFL) << 8) | (bytes[3] & 0xFFL)};
+            }
+            long high64 = 0;
+            long low64 = 0;
+            for (int i = 0; i < 8; i++) {
+                high64 = (high64 << 8) | (bytes[i] & 0xFFL);
+                low64 = (low64 << 8) | (bytes[i + 8] & 0xFFL);
+            }
+            return new long[]{high64, low64};
+        } catch (UnknownHostException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 是否为回环、私有或链路本地IPv4地址
+     */
+    public static boolean isInternalIpv4(long ip) {
+        return (ip >>> 24) == 127
+                || (ip >>> 24) == 10
+                || (ip >>> 20) == ((172L << 4) | 1)
+                || (ip >>> 16) == ((192L << 8) | 168)
+                || (ip >>> 16) == ((169L << 8) | 254);
+    }
+
+    /**
+     * 是否为回环、唯一本地或链路本地IPv6地址
+     */
+    public static boolean isInternalIpv6(long high64, long low64) {
+        return (high64 == 0 && low64 == 1)
+                || (high64 >>> 57) == (0xFC >>> 1)
+                || (high64 >>> 54) == (0xFE80 >>> 6);
+    }
+}
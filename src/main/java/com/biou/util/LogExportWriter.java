@@ -0,0 +1,103 @@
+package com.biou.util;
+
+import com.alibaba.fastjson2.JSON;
+import com.biou.constant.LogExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+
+/**
+ * 日志导出写入器
+ * 逐行写入输出流，不在内存中累积结果
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class LogExportWriter<T> implements Closeable {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+
+    private final LogExportFormat format;
+
+    private final LinkedHashMap<String, Function<T, Object>> columns;
+
+    private long rowCount;
+
+    /**
+     * @param outputStream 输出流
+     * @param format       导出格式
+     * @param columns      CSV列定义（表头 -> 取值函数），按插入顺序输出
+     */
+    public LogExportWriter(OutputStream outputStream, LogExportFormat format,
+                           LinkedHashMap<String, Function<T, Object>> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+        this.format = format;
+        this.columns = columns;
+        if (format == LogExportFormat.CSV) {
+            // 写入BOM，避免Excel打开中文乱码
+            writer.write('\uFEFF');
+            writer.write(String.join(",", columns.keySet()));
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * 写入一行
+     */
+    public void write(T row) throws IOException {
+        if (format == LogExportFormat.NDJSON) {
+            writer.write(JSON.toJSONString(row));
+            writer.write('\n');
+        } else {
+            boolean first = true;
+            for (Function<T, Object> column : columns.values()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                writer.write(escapeCsv(column.apply(row)));
+                first = false;
+            }
+            writer.write("\r\n");
+        }
+        rowCount++;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * CSV转义，并对可能被表格软件当作公式执行的内容加前缀
+     */
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof LocalDateTime
+                ? ((LocalDateTime) value).format(DATE_TIME_FORMATTER)
+                : value.toString();
+        if (!text.isEmpty() && !(value instanceof Number) && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
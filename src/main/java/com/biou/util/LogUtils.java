@@ -1,7 +1,10 @@
 package com.biou.util;
 
 import com.alibaba.fastjson2.JSON;
-import eu.bitwalker.useragentutils.UserAgent;
+import com.biou.service.IpLocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +27,16 @@ public class LogUtils {
     private static final String LOCALHOST = "127.0.0.1";
     private static final String SEPARATOR = ",";
 
+    /**
+     * User-Agent解析缓存容量，客户端的User-Agent种类有限，绝大多数请求可直接命中
+     */
+    private static final int USER_AGENT_CACHE_SIZE = 2048;
+    private static final int USER_AGENT_CACHE_MAX_LENGTH = 1024;
+    private static final Cache<String, UserAgentInfo> USER_AGENT_CACHE = Caffeine.newBuilder()
+            .maximumSize(USER_AGENT_CACHE_SIZE)
+            .recordStats()
+            .build();
+
     public static String getIpAddress(HttpServletRequest request) {
         String ipAddress = request.getHeader("x-forwarded-for");
         if (!StringUtils.isNotBlank(ipAddress) || UNKNOWN.equalsIgnoreCase(ipAddress)) {
@@ -65,20 +78,37 @@ public class LogUtils {
         return userAgent;
     }
 
-    public static String getBrowser(HttpServletRequest request) {
-        String userAgent = getUserAgent(request);
+    /**
+     * 解析请求的User-Agent，相同字符串只解析一次
+     *
+     * @param request 请求
+     * @return 浏览器、操作系统和设备类型
+     */
+    public static UserAgentInfo parseUserAgent(HttpServletRequest request) {
+        String userAgent = request.getHeader("User-Agent");
         if (!StringUtils.isNotBlank(userAgent)) {
-            return UNKNOWN;
+            return UserAgentInfo.UNKNOWN_AGENT;
         }
-        return UserAgent.parseUserAgentString(userAgent).getBrowser().getName();
+        // 超长的User-Agent多为异常请求，直接解析不进入缓存
+        if (userAgent.length() > USER_AGENT_CACHE_MAX_LENGTH) {
+            return UserAgentInfo.parse(userAgent);
+        }
+        return USER_AGENT_CACHE.get(userAgent, UserAgentInfo::parse);
+    }
+
+    /**
+     * User-Agent解析缓存的命中统计
+     */
+    public static CacheStats getUserAgentCacheStats() {
+        return USER_AGENT_CACHE.stats();
+    }
+
+    public static String getBrowser(HttpServletRequest request) {
+        return parseUserAgent(request).getBrowser();
     }
 
     public static String getOs(HttpServletRequest request) {
-        String userAgent = getUserAgent(request);
-        if (!StringUtils.isNotBlank(userAgent)) {
-            return UNKNOWN;
-        }
-        return UserAgent.parseUserAgentString(userAgent).getOperatingSystem().getName();
+        return parseUserAgent(request).getOs();
     }
 
     public static String getLocation(HttpServletRequest request) {
@@ -87,8 +117,8 @@ public class LogUtils {
             return "内网IP";
         }
         try {
-            // TODO: 调用IP地址查询API获取地理位置
-            return "未知位置";
+            IpLocationService ipLocationService = SpringContextUtils.getBean(IpLocationService.class);
+            return ipLocationService != null ? ipLocationService.resolve(ipAddress) : "未知位置";
         } catch (Exception e) {
             logger.error("获取地理位置失败", e);
             return "未知位置";
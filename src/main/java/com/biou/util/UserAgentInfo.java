@@ -0,0 +1,66 @@
+package com.biou.util;
+
+import eu.bitwalker.useragentutils.UserAgent;
+
+/**
+ * User-Agent解析结果
+ * 一次解析得到浏览器、操作系统和设备类型，不可变，可在线程间共享
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public final class UserAgentInfo {
+
+    private static final String UNKNOWN = "unknown";
+
+    /**
+     * 请求未携带User-Agent时的解析结果
+     */
+    public static final UserAgentInfo UNKNOWN_AGENT = new UserAgentInfo(UNKNOWN, UNKNOWN, UNKNOWN);
+
+    private final String browser;
+
+    private final String os;
+
+    private final String deviceType;
+
+    private UserAgentInfo(String browser, String os, String deviceType) {
+        this.browser = browser;
+        this.os = os;
+        this.deviceType = deviceType;
+    }
+
+    /**
+     * 解析User-Agent字符串
+     *
+     * @param userAgent User-Agent字符串
+     * @return 解析结果
+     */
+    public static UserAgentInfo parse(String userAgent) {
+        UserAgent parsed = UserAgent.parseUserAgentString(userAgent);
+        return new UserAgentInfo(parsed.getBrowser().getName(),
+                parsed.getOperatingSystem().getName(),
+                parsed.getOperatingSystem().getDeviceType().getName());
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public String getOs() {
+        return os;
+    }
+
+    public String getDeviceType() {
+        return deviceType;
+    }
+
+    @Override
+    public String toString() {
+        return "UserAgentInfo{" +
+                "browser='" + browser + '\'' +
+                ", os='" + os + '\'' +
+                ", deviceType='" + deviceType + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,162 @@
+package com.biou.vo;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 日志清理进度VO
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+public class LogPurgeProgressVO {
+
+    /**
+     * 清理任务ID，每次提交生成
+     */
+    private String taskId;
+
+    /**
+     * 是否正在清理
+     */
+    private Boolean running;
+
+    /**
+     * 当前清理的日志类型
+     */
+    private String currentLogType;
+
+    /**
+     * 本次已删除数量
+     */
+    private Long deletedRows;
+
+    /**
+     * 本次已执行的分块数
+     */
+    private Long chunks;
+
+    /**
+     * 本次开始时间
+     */
+    private LocalDateTime startTime;
+
+    /**
+     * 最近一次分块完成时间
+     */
+    private LocalDateTime lastChunkTime;
+
+    /**
+     * 本次结束时间，执行中为空
+     */
+    private LocalDateTime finishTime;
+
+    /**
+     * 各日志类型本次删除数量
+     */
+    private Map<String, Long> deletedByType;
+
+    /**
+     * 失败原因，成功时为空
+     */
+    private String errorMessage;
+
+    public LogPurgeProgressVO() {
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    public Boolean getRunning() {
+        return running;
+    }
+
+    public void setRunning(Boolean running) {
+        this.running = running;
+    }
+
+    public String getCurrentLogType() {
+        return currentLogType;
+    }
+
+    public void setCurrentLogType(String currentLogType) {
+        this.currentLogType = currentLogType;
+    }
+
+    public Long getDeletedRows() {
+        return deletedRows;
+    }
+
+    public void setDeletedRows(Long deletedRows) {
+        this.deletedRows = deletedRows;
+    }
+
+    public Long getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(Long chunks) {
+        this.chunks = chunks;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getLastChunkTime() {
+        return lastChunkTime;
+    }
+
+    public void setLastChunkTime(LocalDateTime lastChunkTime) {
+        this.lastChunkTime = lastChunkTime;
+    }
+
+    public LocalDateTime getFinishTime() {
+        return finishTime;
+    }
+
+    public void setFinishTime(LocalDateTime finishTime) {
+        this.finishTime = finishTime;
+    }
+
+    public Map<String, Long> getDeletedByType() {
+        return deletedByType;
+    }
+
+    public void setDeletedByType(Map<String, Long> deletedByType) {
+        this.deletedByType = deletedByType;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "LogPurgeProgressVO{" +
+                "taskId='" + taskId + '\'' +
+                ", running=" + running +
+                ", currentLogType='" + currentLogType + '\'' +
+                ", deletedRows=" + deletedRows +
+                ", chunks=" + chunks +
+                ", startTime=" + startTime +
+                ", lastChunkTime=" + lastChunkTime +
+                ", finishTime=" + finishTime +
+                ", deletedByType=" + deletedByType +
+                ", errorMessage='" + errorMessage + '\'' +
+                '}';
+    }
+}
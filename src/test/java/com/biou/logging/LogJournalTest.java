@@ -0,0 +1,274 @@
+package com.biou.logging;
+
+import com.biou.entity.LoginLog;
+import com.biou.entity.SystemLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 本地落盘日志测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class LogJournalTest {
+
+    /**
+     * 记录头长度：负载长度(4) + CRC32(4) + 类型(1)
+     */
+    private static final int RECORD_HEADER_SIZE = 9;
+
+    @TempDir
+    Path tempDir;
+
+    private LogJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = newJournal(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    void readsBackAppendedRecords() throws IOException {
+        assertTrue(journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b", "c")));
+        assertTrue(journal.append(LogJournalRecordType.LOGIN, Collections.singletonList(loginLog("tom"))));
+
+        List<Long> segments = journal.pendingSegments();
+        assertEquals(Collections.singletonList(0L), segments);
+
+        List<LogJournalRecord> records = journal.read(0L, 0, 100).getRecords();
+        assertEquals(4, records.size());
+        assertEquals(Arrays.asList("a", "b", "c"), messages(records.subList(0, 3)));
+        assertEquals(LogJournalRecordType.LOGIN, records.get(3).getType());
+        assertEquals("tom", records.get(3).<LoginLog>toEntity().getUsername());
+        assertEquals(4L, journal.getAppendedCount());
+
+        // 分段文件按固定大小映射，最后一条记录之后是长度为0的未写入区域
+        int lastOffset = records.get(3).getNextOffset();
+        assertTrue(Files.size(segmentFile()) > lastOffset);
+        LogJournalBatch tail = journal.read(0L, lastOffset, 100);
+        assertTrue(tail.getRecords().isEmpty());
+        assertTrue(tail.isEndOfSegment());
+    }
+
+    @Test
+    void resumesFromNextOffset() throws IOException {
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b", "c"));
+        journal.pendingSegments();
+
+        List<LogJournalRecord> first = journal.read(0L, 0, 2).getRecords();
+        List<LogJournalRecord> rest = journal.read(0L, first.get(1).getNextOffset(), 2).getRecords();
+
+        assertEquals(Arrays.asList("a", "b"), messages(first));
+        assertEquals(Collections.singletonList("c"), messages(rest));
+    }
+
+    @Test
+    void stopsAtRecordWithBadChecksum() throws IOException {
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b", "c"));
+        journal.pendingSegments();
+        int secondRecord = journal.read(0L, 0, 1).getRecords().get(0).getNextOffset();
+
+        flipByte(secondRecord + RECORD_HEADER_SIZE + 1);
+
+        LogJournalBatch batch = journal.read(0L, 0, 100);
+        assertEquals(Collections.singletonList("a"), messages(batch.getRecords()));
+        assertEquals(secondRecord, batch.getNextOffset());
+        assertFalse(batch.isEndOfSegment());
+        assertTrue(journal.read(0L, secondRecord, 100).getRecords().isEmpty());
+        assertFalse(journal.read(0L, secondRecord, 100).isEndOfSegment());
+    }
+
+    @Test
+    void skipsRecordWithUnknownType() throws IOException {
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b", "c"));
+        journal.pendingSegments();
+        int secondRecord = journal.read(0L, 0, 1).getRecords().get(0).getNextOffset();
+
+        writeByte(secondRecord + RECORD_HEADER_SIZE - 1, (byte) 99);
+
+        assertEquals(Arrays.asList("a", "c"), messages(journal.read(0L, 0, 100).getRecords()));
+    }
+
+    @Test
+    void reachesSegmentEndPastTrailingUnknownRecords() throws IOException {
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b"));
+        journal.pendingSegments();
+        List<LogJournalRecord> records = journal.read(0L, 0, 100).getRecords();
+        int secondRecord = records.get(0).getNextOffset();
+
+        writeByte(secondRecord + RECORD_HEADER_SIZE - 1, (byte) 99);
+
+        // 本批只有未知类型的记录，读取位置仍越过该记录到达分段末尾
+        LogJournalBatch batch = journal.read(0L, secondRecord, 100);
+        assertTrue(batch.getRecords().isEmpty());
+        assertEquals(records.get(1).getNextOffset(), batch.getNextOffset());
+        assertTrue(batch.isEndOfSegment());
+    }
+
+    @Test
+    void stopsAtTruncatedRecord() throws IOException {
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b"));
+        journal.pendingSegments();
+        int secondRecord = journal.read(0L, 0, 1).getRecords().get(0).getNextOffset();
+
+        try (FileChannel channel = FileChannel.open(segmentFile(), StandardOpenOption.WRITE)) {
+            channel.truncate(secondRecord + RECORD_HEADER_SIZE + 2);
+        }
+
+        LogJournalBatch batch = journal.read(0L, 0, 100);
+        assertEquals(Collections.singletonList("a"), messages(batch.getRecords()));
+        assertFalse(batch.isEndOfSegment());
+    }
+
+    @Test
+    void quarantinesCorruptSegment() throws IOException {
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b"));
+        journal.pendingSegments();
+        int offset = journal.read(0L, 0, 1).getRecords().get(0).getNextOffset();
+        journal.saveCheckpoint(0L, offset);
+
+        Path quarantined = journal.quarantineSegment(0L);
+
+        assertEquals(tempDir.resolve(String.format("journal-%020d.seg.corrupt", 0L)), quarantined);
+        assertTrue(Files.exists(quarantined));
+        assertFalse(Files.exists(segmentFile()));
+        assertEquals(0, journal.getCheckpointOffset(0L));
+        assertTrue(journal.pendingSegments().isEmpty());
+    }
+
+    @Test
+    void keepsSegmentsAndCheckpointAcrossRestart() throws IOException {
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("a", "b"));
+        journal.pendingSegments();
+        int offset = journal.read(0L, 0, 1).getRecords().get(0).getNextOffset();
+        journal.saveCheckpoint(0L, offset);
+        journal.close();
+
+        journal = newJournal(true);
+
+        assertEquals(Collections.singletonList(0L), journal.pendingSegments());
+        assertEquals(offset, journal.getCheckpointOffset(0L));
+        assertEquals(0, journal.getCheckpointOffset(1L));
+        assertEquals(Collections.singletonList("b"), messages(journal.read(0L, offset, 100).getRecords()));
+
+        // 新写入的记录进入新的分段，不覆盖待回放的分段
+        journal.append(LogJournalRecordType.SYSTEM, systemLogs("c"));
+        journal.deleteSegment(0L);
+        assertEquals(0, journal.getCheckpointOffset(0L));
+        assertEquals(Collections.singletonList(1L), journal.pendingSegments());
+        assertEquals(Collections.singletonList("c"), messages(journal.read(1L, 0, 100).getRecords()));
+    }
+
+    @Test
+    void doesNothingWhenDisabled() throws IOException {
+        journal.close();
+        journal = newJournal(false);
+
+        assertFalse(journal.append(LogJournalRecordType.SYSTEM, systemLogs("a")));
+        assertFalse(journal.shouldBypassDatabase());
+        assertTrue(journal.pendingSegments().isEmpty());
+    }
+
+    @Test
+    void bypassesDatabaseAfterConnectionFailure() {
+        journal.spill(LogJournalRecordType.SYSTEM, systemLogs("a"), new DataIntegrityViolationException("duplicate"));
+        assertFalse(journal.shouldBypassDatabase());
+
+        journal.spill(LogJournalRecordType.SYSTEM, systemLogs("b"),
+                new QueryTimeoutException("timeout", new SQLTransientConnectionException("refused")));
+        assertTrue(journal.shouldBypassDatabase());
+
+        journal.markDatabaseAvailable();
+        assertFalse(journal.shouldBypassDatabase());
+        assertEquals(2L, journal.getAppendedCount());
+    }
+
+    @Test
+    void detectsDatabaseUnavailableInCauseChain() {
+        assertTrue(LogJournal.isDatabaseUnavailable(
+                new RuntimeException(new SQLTransientConnectionException("refused"))));
+        assertFalse(LogJournal.isDatabaseUnavailable(new DataIntegrityViolationException("duplicate")));
+        assertFalse(LogJournal.isDatabaseUnavailable(null));
+    }
+
+    private LogJournal newJournal(boolean enabled) {
+        LogJournal instance = new LogJournal();
+        ReflectionTestUtils.setField(instance, "enabled", enabled);
+        ReflectionTestUtils.setField(instance, "dir", tempDir.toString());
+        ReflectionTestUtils.setField(instance, "segmentSizeMb", 1);
+        ReflectionTestUtils.setField(instance, "syncOnWrite", false);
+        instance.init();
+        return instance;
+    }
+
+    private Path segmentFile() {
+        return tempDir.resolve(String.format("journal-%020d.seg", 0L));
+    }
+
+    private void flipByte(long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            buffer.flip();
+            writeByte(position, (byte) ~buffer.get());
+        }
+    }
+
+    private void writeByte(long position, byte value) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{value}), position);
+        }
+    }
+
+    private static List<SystemLog> systemLogs(String... messages) {
+        List<SystemLog> logs = new ArrayList<>();
+        for (String message : messages) {
+            SystemLog log = new SystemLog();
+            log.setLevel("ERROR");
+            log.setMessage(message);
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    private static LoginLog loginLog(String username) {
+        LoginLog log = new LoginLog();
+        log.setUsername(username);
+        return log;
+    }
+
+    private static List<String> messages(List<LogJournalRecord> records) {
+        List<String> messages = new ArrayList<>();
+        for (LogJournalRecord record : records) {
+            messages.add(record.<SystemLog>toEntity().getMessage());
+        }
+        return messages;
+    }
+}
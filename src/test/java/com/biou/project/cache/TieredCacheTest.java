@@ -0,0 +1,67 @@
+package com.biou.project.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 二级缓存测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class TieredCacheTest {
+
+    private ValueOperations<String, Object> valueOperations;
+
+    private TieredCacheManager cacheManager;
+
+    private TieredCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cacheManager = mock(TieredCacheManager.class);
+        cache = new TieredCache("user", new CacheProperties().resolve("user"), redisTemplate, cacheManager);
+    }
+
+    @Test
+    void fillsBothLevelsOnMissWithoutBroadcasting() {
+        assertEquals("tom", cache.get(1L, () -> "tom"));
+
+        verify(valueOperations).set(eq("user::1"), eq("tom"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(cacheManager, never()).publishEvict(anyString(), any());
+        assertEquals("tom", cache.get(1L, () -> "jerry"));
+    }
+
+    @Test
+    void broadcastsOnExplicitPut() {
+        cache.put(1L, "tom");
+
+        verify(valueOperations).set(eq("user::1"), eq("tom"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(cacheManager).publishEvict("user", 1L);
+    }
+
+    @Test
+    void broadcastsOnEvict() {
+        cache.evict(1L);
+
+        verify(cacheManager).publishEvict("user", 1L);
+    }
+}
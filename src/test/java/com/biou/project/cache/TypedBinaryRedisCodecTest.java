@@ -0,0 +1,199 @@
+package com.biou.project.cache;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONReader;
+import com.alibaba.fastjson2.JSONWriter;
+import com.biou.project.vo.UserVO;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 二进制Redis值编解码器测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class TypedBinaryRedisCodecTest {
+
+    private static final byte MAGIC = (byte) 0xB1;
+
+    private static final int USER_TYPE_ID = 1;
+
+    @Test
+    void roundTripsRegisteredType() {
+        TypedBinaryRedisCodec codec = codec(0);
+        UserVO user = user("tom");
+
+        byte[] bytes = codec.serialize(user);
+
+        assertEquals(MAGIC, bytes[0]);
+        assertEquals(0, bytes[2]);
+        assertUserEquals(user, (UserVO) codec.deserialize(bytes));
+    }
+
+    @Test
+    void compressesBodyAboveThreshold() {
+        TypedBinaryRedisCodec codec = codec(64);
+        UserVO user = user(repeat("tom", 200));
+
+        byte[] bytes = codec.serialize(user);
+
+        assertEquals(1, bytes[2] & 0x01);
+        assertTrue(bytes.length < codec(0).serialize(user).length);
+        assertUserEquals(user, (UserVO) codec.deserialize(bytes));
+    }
+
+    @Test
+    void keepsSmallBodyUncompressed() {
+        TypedBinaryRedisCodec codec = codec(4096);
+
+        byte[] bytes = codec.serialize(user("tom"));
+
+        assertEquals(0, bytes[2] & 0x01);
+    }
+
+    @Test
+    void rejectsTruncatedCompressedBody() {
+        TypedBinaryRedisCodec codec = codec(64);
+        byte[] bytes = codec.serialize(user(repeat("tom", 200)));
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 8);
+
+        assertThrows(SerializationException.class, () -> codec.deserialize(truncated));
+    }
+
+    @Test
+    void readsLegacyJsonThroughFallback() {
+        TypedBinaryRedisCodec codec = codec(0);
+        UserVO user = user("tom");
+        byte[] legacy = new JsonSerializer().serialize(user);
+
+        assertUserEquals(user, (UserVO) codec.deserialize(legacy));
+    }
+
+    @Test
+    void writesUnregisteredTypeThroughFallback() {
+        TypedBinaryRedisCodec codec = codec(0);
+        Map<String, Object> value = Collections.singletonMap("count", 3);
+
+        byte[] bytes = codec.serialize(value);
+
+        assertEquals('{', bytes[0]);
+        assertEquals(3, ((Map<?, ?>) codec.deserialize(bytes)).get("count"));
+    }
+
+    @Test
+    void treatsSchemaVersionMismatchAsMiss() {
+        byte[] bytes = codec(0).serialize(user("tom"));
+        TypedBinaryRedisCodec upgraded = new TypedBinaryRedisCodec(new JsonSerializer(), 0);
+        upgraded.register(USER_TYPE_ID, UserVO.class, 2);
+
+        assertNull(upgraded.deserialize(bytes));
+    }
+
+    @Test
+    void treatsUnknownTypeIdAsMiss() {
+        byte[] bytes = codec(0).serialize(user("tom"));
+        TypedBinaryRedisCodec other = new TypedBinaryRedisCodec(new JsonSerializer(), 0);
+
+        assertNull(other.deserialize(bytes));
+    }
+
+    @Test
+    void treatsNewerFormatVersionAsMiss() {
+        byte[] bytes = codec(0).serialize(user("tom"));
+        bytes[1] = 2;
+
+        assertNull(codec(0).deserialize(bytes));
+    }
+
+    @Test
+    void handlesNullAndEmpty() {
+        TypedBinaryRedisCodec codec = codec(0);
+
+        assertArrayEquals(new byte[0], codec.serialize(null));
+        assertNull(codec.deserialize(null));
+        assertNull(codec.deserialize(new byte[0]));
+    }
+
+    @Test
+    void rejectsConflictingRegistration() {
+        TypedBinaryRedisCodec codec = codec(0);
+
+        codec.register(USER_TYPE_ID, UserVO.class, 1);
+        assertThrows(IllegalStateException.class, () -> codec.register(USER_TYPE_ID, String.class, 1));
+        assertThrows(IllegalArgumentException.class, () -> codec.register(0x10000, String.class, 1));
+        assertThrows(IllegalArgumentException.class, () -> codec.register(2, String.class, 256));
+    }
+
+    private static TypedBinaryRedisCodec codec(int compressThreshold) {
+        TypedBinaryRedisCodec codec = new TypedBinaryRedisCodec(new JsonSerializer(), compressThreshold);
+        codec.register(USER_TYPE_ID, UserVO.class, 1);
+        return codec;
+    }
+
+    private static UserVO user(String username) {
+        UserVO user = new UserVO();
+        user.setId(42L);
+        user.setUsername(username);
+        user.setEmail("tom@example.com");
+        user.setStatus(1);
+        user.setCreateTime(LocalDateTime.of(2026, 10, 18, 9, 30, 15));
+        return user;
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder(value.length() * times);
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    private static void assertUserEquals(UserVO expected, UserVO actual) {
+        assertInstanceOf(UserVO.class, actual);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getUsername(), actual.getUsername());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertNull(actual.getPhone());
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getCreateTime(), actual.getCreateTime());
+    }
+
+    /**
+     * 与RedisConfig中的兜底序列化器相同的JSON格式
+     */
+    private static final class JsonSerializer implements RedisSerializer<Object> {
+
+        @Override
+        public byte[] serialize(Object value) {
+            if (value == null) {
+                return new byte[0];
+            }
+            return JSON.toJSONString(value, JSONWriter.Feature.WriteClassName).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+            if (bytes == null || bytes.length == 0) {
+                return null;
+            }
+            return JSON.parseObject(new String(bytes, StandardCharsets.UTF_8), Object.class,
+                    JSONReader.Feature.SupportAutoType);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.biou.project.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * URL权限路由索引测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class PermissionRouteIndexTest {
+
+    @Test
+    void prefersLiteralOverWildcards() {
+        PermissionRouteIndex index = build(
+                "/api/**", "api:all",
+                "/api/user/*", "user:any",
+                "/api/user/list", "user:list");
+
+        assertEquals(codes("user:list"), index.match("GET", "/api/user/list"));
+        assertEquals(codes("user:any"), index.match("GET", "/api/user/5"));
+        assertEquals(codes("api:all"), index.match("GET", "/api/order/5"));
+    }
+
+    @Test
+    void treatsVariableAsSingleSegmentWildcard() {
+        PermissionRouteIndex index = build(
+                "/api/**", "api:all",
+                "/api/user/{id}", "user:view");
+
+        assertEquals(codes("user:view"), index.match("GET", "/api/user/5"));
+        assertEquals(codes("api:all"), index.match("GET", "/api/user/5/roles"));
+    }
+
+    @Test
+    void prefersSingleSegmentWildcardOverMultiSegment() {
+        PermissionRouteIndex index = build(
+                "/api/user/**", "user:all",
+                "/api/user/*/status", "user:status");
+
+        assertEquals(codes("user:status"), index.match("PUT", "/api/user/5/status"));
+        assertEquals(codes("user:all"), index.match("PUT", "/api/user/5/roles"));
+    }
+
+    @Test
+    void backtracksWhenLiteralBranchDoesNotMatch() {
+        PermissionRouteIndex index = build(
+                "/api/user/list", "user:list",
+                "/api/user/{id}/status", "user:status");
+
+        assertEquals(codes("user:status"), index.match("PUT", "/api/user/list/status"));
+    }
+
+    @Test
+    void matchesZeroSegmentsForMidPathMultiWildcard() {
+        PermissionRouteIndex index = build("/api/**/export", "data:export");
+
+        assertEquals(codes("data:export"), index.match("GET", "/api/export"));
+        assertEquals(codes("data:export"), index.match("GET", "/api/log/export"));
+        assertEquals(codes("data:export"), index.match("GET", "/api/log/system/export"));
+        assertTrue(index.match("GET", "/api").isEmpty());
+        assertTrue(index.match("GET", "/api/log/import").isEmpty());
+    }
+
+    @Test
+    void matchesZeroSegmentsForTrailingMultiWildcard() {
+        PermissionRouteIndex index = build("/api/role/**", "role:all");
+
+        assertEquals(codes("role:all"), index.match("GET", "/api/role"));
+        assertEquals(codes("role:all"), index.match("GET", "/api/role/1/permissions"));
+        assertTrue(index.match("GET", "/api/roles").isEmpty());
+    }
+
+    @Test
+    void prefersMethodSpecificRoute() {
+        PermissionRouteIndex index = build(
+                "/api/user/{id}", "user:view",
+                "delete /api/user/{id}", "user:delete");
+
+        assertEquals(codes("user:delete"), index.match("DELETE", "/api/user/5"));
+        assertEquals(codes("user:view"), index.match("GET", "/api/user/5"));
+        assertEquals(codes("user:view"), index.match("get", "/api/user/5"));
+    }
+
+    @Test
+    void prefersMoreSpecificRouteOverMethodPrefix() {
+        PermissionRouteIndex index = build(
+                "GET /api/**", "api:read",
+                "/api/user/list", "user:list",
+                "/api/user/*", "user:any");
+
+        assertEquals(codes("user:list"), index.match("GET", "/api/user/list"));
+        assertEquals(codes("user:any"), index.match("GET", "/api/user/5"));
+        assertEquals(codes("api:read"), index.match("GET", "/api/user/5/roles"));
+        assertEquals(codes("user:list"), index.match("POST", "/api/user/list"));
+    }
+
+    @Test
+    void mergesCodesOfSamePattern() {
+        PermissionRouteIndex index = build(
+                "/api/log/*", "log:view",
+                "/api/log/{type}", "log:admin",
+                "/api/log/*", "log:view");
+
+        assertEquals(codes("log:view", "log:admin"), index.match("GET", "/api/log/system"));
+        assertEquals(3, index.getRouteCount());
+    }
+
+    @Test
+    void ignoresBlankResourcePathAndEmptySegments() {
+        PermissionRouteIndex index = build(
+                "  ", "ignored",
+                "/api//menu/", "menu:view");
+
+        assertEquals(1, index.getRouteCount());
+        assertEquals(codes("menu:view"), index.match("GET", "/api/menu"));
+    }
+
+    @Test
+    void returnsEmptyWhenNothingMatches() {
+        assertTrue(PermissionRouteIndex.empty().match("GET", "/api/user").isEmpty());
+        assertTrue(build("/api/user", "user:view").match("GET", "/api/role").isEmpty());
+    }
+
+    private static PermissionRouteIndex build(String... pairs) {
+        List<Map.Entry<String, String>> routes = new ArrayList<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            routes.add(new AbstractMap.SimpleEntry<>(pairs[i], pairs[i + 1]));
+        }
+        return PermissionRouteIndex.build(routes);
+    }
+
+    private static List<String> codes(String... codes) {
+        return codes.length == 1 ? Collections.singletonList(codes[0]) : Arrays.asList(codes);
+    }
+}
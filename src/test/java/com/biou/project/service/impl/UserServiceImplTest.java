@@ -0,0 +1,85 @@
+package com.biou.project.service.impl;
+
+import com.biou.project.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 用户名分配测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class UserServiceImplTest {
+
+    private static final String BASE = "dingtalk_tom";
+
+    private UserMapper userMapper;
+
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        userMapper = mock(UserMapper.class);
+        userService = new UserServiceImpl();
+        ReflectionTestUtils.setField(userService, "baseMapper", userMapper);
+    }
+
+    @Test
+    void returnsBaseWhenFree() {
+        when(userMapper.selectUsernamesByPrefix(anyString(), anyString())).thenReturn(Collections.emptyList());
+
+        assertEquals(BASE, userService.allocateUsername(BASE));
+        verify(userMapper).selectUsernamesByPrefix(BASE, "dingtalk\\_tom\\_");
+    }
+
+    @Test
+    void skipsBaseHeldBySoftDeletedUser() {
+        // 前缀查询不过滤已删除用户，已删除用户占用的用户名同样不可用
+        when(userMapper.selectUsernamesByPrefix(anyString(), anyString())).thenReturn(Collections.singletonList(BASE));
+
+        assertEquals(BASE + "_1", userService.allocateUsername(BASE));
+    }
+
+    @Test
+    void appendsNextSuffix() {
+        when(userMapper.selectUsernamesByPrefix(anyString(), anyString()))
+                .thenReturn(Arrays.asList(BASE, BASE + "_1", BASE + "_2"));
+
+        assertEquals(BASE + "_3", userService.allocateUsername(BASE));
+    }
+
+    @Test
+    void fillsSuffixGap() {
+        when(userMapper.selectUsernamesByPrefix(anyString(), anyString()))
+                .thenReturn(Arrays.asList(BASE, BASE + "_1", BASE + "_3"));
+
+        assertEquals(BASE + "_2", userService.allocateUsername(BASE));
+    }
+
+    @Test
+    void ignoresNonNumericSuffix() {
+        when(userMapper.selectUsernamesByPrefix(anyString(), anyString()))
+                .thenReturn(Arrays.asList(BASE, BASE + "_abc", BASE + "_1x", BASE + "_1"));
+
+        assertEquals(BASE + "_2", userService.allocateUsername(BASE));
+    }
+
+    @Test
+    void comparesCaseInsensitively() {
+        when(userMapper.selectUsernamesByPrefix(anyString(), anyString()))
+                .thenReturn(Arrays.asList("DingTalk_Tom", "DINGTALK_TOM_1"));
+
+        assertEquals(BASE + "_2", userService.allocateUsername(BASE));
+    }
+}
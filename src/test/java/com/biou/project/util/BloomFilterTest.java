@@ -0,0 +1,59 @@
+package com.biou.project.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 布隆过滤器测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class BloomFilterTest {
+
+    @Test
+    void neverReportsInsertedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        String[] values = new String[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        for (String value : values) {
+            assertTrue(filter.mightContain(value), value);
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.put("token-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.03, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void handlesEmptyAndNonAsciiValues() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        filter.put("");
+        filter.put("钉钉用户");
+
+        assertTrue(filter.mightContain(""));
+        assertTrue(filter.mightContain("钉钉用户"));
+        assertFalse(new BloomFilter(100, 0.01).mightContain("钉钉用户"));
+    }
+}
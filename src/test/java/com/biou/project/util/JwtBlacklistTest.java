@@ -0,0 +1,90 @@
+package com.biou.project.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT注销黑名单测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class JwtBlacklistTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ZSetOperations<String, String> zSetOperations;
+
+    private JwtBlacklist blacklist;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        blacklist = new JwtBlacklist();
+        ReflectionTestUtils.setField(blacklist, "stringRedisTemplate", stringRedisTemplate);
+        ReflectionTestUtils.setField(blacklist, "expectedInsertions", 1000L);
+    }
+
+    @Test
+    void queriesRedisBeforeFirstResync() {
+        when(stringRedisTemplate.hasKey("jwt:blacklist:revoked")).thenReturn(true);
+
+        assertTrue(blacklist.isRevoked("revoked"));
+        assertFalse(blacklist.isRevoked("active"));
+        verify(stringRedisTemplate).hasKey("jwt:blacklist:active");
+    }
+
+    @Test
+    void treatsTokenAsRevokedWhenRedisIsDownBeforeFirstResync() {
+        when(stringRedisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("down"));
+        when(stringRedisTemplate.hasKey(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        blacklist.resync();
+
+        assertTrue(blacklist.isRevoked("revoked"));
+    }
+
+    @Test
+    void skipsRedisForTokensMissingFromFilterAfterResync() {
+        when(zSetOperations.zCard("jwt:blacklist:index")).thenReturn(1L);
+        when(zSetOperations.range("jwt:blacklist:index", 0, -1)).thenReturn(Collections.singleton("revoked"));
+        when(stringRedisTemplate.hasKey("jwt:blacklist:revoked")).thenReturn(true);
+
+        blacklist.resync();
+
+        assertTrue(blacklist.isRevoked("revoked"));
+        assertFalse(blacklist.isRevoked("active"));
+        verify(stringRedisTemplate, never()).hasKey("jwt:blacklist:active");
+    }
+
+    @Test
+    void revokesBeforeFirstResync() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        when(stringRedisTemplate.hasKey("jwt:blacklist:revoked")).thenReturn(true);
+
+        blacklist.revoke("revoked", System.currentTimeMillis() + 60000L);
+
+        verify(zSetOperations).add(eq("jwt:blacklist:index"), eq("revoked"), anyDouble());
+        assertTrue(blacklist.isRevoked("revoked"));
+    }
+}
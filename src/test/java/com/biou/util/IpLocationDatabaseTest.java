@@ -0,0 +1,170 @@
+package com.biou.util;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 离线IP地址库测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class IpLocationDatabaseTest {
+
+    @TempDir
+    static Path tempDir;
+
+    private static IpLocationDatabase database;
+
+    @BeforeAll
+    static void load() throws IOException {
+        // 故意打乱顺序，加载时应按起始地址排序
+        database = IpLocationDatabase.load(write("ip.txt",
+                "# 起始IP,结束IP,地点",
+                "",
+                "224.0.0.0,255.255.255.255,保留地址",
+                "1.0.0.0,1.0.0.255,澳大利亚",
+                "  36.96.0.0 , 36.127.255.255 , 中国|广东  ",
+                "200.0.0.0,200.0.0.9,巴西",
+                "1.0.8.0,1.0.15.255,中国|广东",
+                "2001:db8::,2001:db8::ffff,文档地址",
+                "fe80::,febf:ffff:ffff:ffff:ffff:ffff:ffff:ffff,链路本地",
+                "::ffff:8.8.8.0,::ffff:8.8.8.255,美国"));
+    }
+
+    @Test
+    void countsRangesAndDistinctLocations() {
+        assertEquals(8, database.size());
+        assertEquals(7, database.locationCount());
+    }
+
+    @Test
+    void findsIpv4RangeInclusiveOfBoundaries() {
+        assertEquals("澳大利亚", findIpv4("1.0.0.0"));
+        assertEquals("澳大利亚", findIpv4("1.0.0.128"));
+        assertEquals("澳大利亚", findIpv4("1.0.0.255"));
+        assertEquals("中国|广东", findIpv4("1.0.8.0"));
+        assertEquals("中国|广东", findIpv4("36.100.1.1"));
+    }
+
+    @Test
+    void returnsNullOutsideIpv4Ranges() {
+        assertNull(findIpv4("0.255.255.255"));
+        assertNull(findIpv4("1.0.1.0"));
+        assertNull(findIpv4("1.0.7.255"));
+        assertNull(findIpv4("200.0.0.10"));
+        assertNull(findIpv4("223.255.255.255"));
+    }
+
+    @Test
+    void comparesIpv4AddressesAsUnsigned() {
+        assertEquals("巴西", findIpv4("200.0.0.0"));
+        assertEquals("巴西", findIpv4("200.0.0.9"));
+        assertEquals("保留地址", findIpv4("224.0.0.0"));
+        assertEquals("保留地址", findIpv4("255.255.255.255"));
+    }
+
+    @Test
+    void findsIpv6RangeInclusiveOfBoundaries() {
+        assertEquals("文档地址", findIpv6("2001:db8::"));
+        assertEquals("文档地址", findIpv6("2001:db8::ffff"));
+        assertNull(findIpv6("2001:db8::1:0"));
+        assertNull(findIpv6("2001:db7:ffff:ffff:ffff:ffff:ffff:ffff"));
+    }
+
+    @Test
+    void comparesIpv6AddressesAsUnsigned() {
+        assertEquals("链路本地", findIpv6("fe80::1"));
+        assertEquals("链路本地", findIpv6("febf:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+        assertNull(findIpv6("fec0::"));
+        assertNull(findIpv6("fe7f:ffff:ffff:ffff:ffff:ffff:ffff:ffff"));
+    }
+
+    @Test
+    void mapsIpv4MappedAddressesToIpv6Ranges() {
+        assertEquals("美国", findIpv6("::ffff:8.8.8.8"));
+        assertNull(findIpv6("::ffff:8.8.9.0"));
+    }
+
+    @Test
+    void emptyDatabaseFindsNothing() {
+        IpLocationDatabase empty = IpLocationDatabase.empty();
+
+        assertEquals(0, empty.size());
+        assertNull(empty.findIpv4(IpLocationDatabase.parseIpv4("1.0.0.1")));
+        assertNull(empty.findIpv6(0L, 1L));
+    }
+
+    @Test
+    void rejectsMalformedLines() throws IOException {
+        Path missingColumn = write("missing.txt", "1.0.0.0,1.0.0.255");
+        Path invalidAddress = write("invalid.txt", "1.0.0.0,1.0.0.256,澳大利亚");
+
+        assertThrows(IOException.class, () -> IpLocationDatabase.load(missingColumn));
+        assertThrows(IOException.class, () -> IpLocationDatabase.load(invalidAddress));
+    }
+
+    @Test
+    void parsesIpv4Strictly() {
+        assertEquals(0L, IpLocationDatabase.parseIpv4("0.0.0.0"));
+        assertEquals(0xFFFFFFFFL, IpLocationDatabase.parseIpv4("255.255.255.255"));
+        assertEquals(0x0A000001L, IpLocationDatabase.parseIpv4("10.0.0.1"));
+        for (String invalid : Arrays.asList(null, "", "1.2.3", "1.2.3.4.5", "1..2.3", "1.2.3.", ".1.2.3",
+                "256.0.0.1", "1.2.3.0001", "a.b.c.d", "1.2.3.4 ")) {
+            assertEquals(-1L, IpLocationDatabase.parseIpv4(invalid), String.valueOf(invalid));
+        }
+    }
+
+    @Test
+    void parsesIpv6WithoutResolvingHostnames() {
+        assertArrayEquals(new long[]{0L, 1L}, IpLocationDatabase.parseIpv6("::1"));
+        assertArrayEquals(new long[]{0x20010DB800000000L, 0xFFFFL}, IpLocationDatabase.parseIpv6("2001:db8::ffff"));
+        assertNull(IpLocationDatabase.parseIpv6("localhost"));
+        assertNull(IpLocationDatabase.parseIpv6("1.2.3.4"));
+        assertNull(IpLocationDatabase.parseIpv6("2001:db8::zz"));
+    }
+
+    @Test
+    void detectsInternalAddresses() {
+        assertTrue(IpLocationDatabase.isInternalIpv4(IpLocationDatabase.parseIpv4("127.0.0.1")));
+        assertTrue(IpLocationDatabase.isInternalIpv4(IpLocationDatabase.parseIpv4("172.31.255.255")));
+        assertFalse(IpLocationDatabase.isInternalIpv4(IpLocationDatabase.parseIpv4("172.32.0.0")));
+        assertTrue(IpLocationDatabase.isInternalIpv4(IpLocationDatabase.parseIpv4("192.168.1.1")));
+        assertFalse(IpLocationDatabase.isInternalIpv4(IpLocationDatabase.parseIpv4("8.8.8.8")));
+
+        long[] uniqueLocal = IpLocationDatabase.parseIpv6("fd00::1");
+        long[] linkLocal = IpLocationDatabase.parseIpv6("fe80::1");
+        long[] global = IpLocationDatabase.parseIpv6("2001:db8::1");
+        assertTrue(IpLocationDatabase.isInternalIpv6(0L, 1L));
+        assertTrue(IpLocationDatabase.isInternalIpv6(uniqueLocal[0], uniqueLocal[1]));
+        assertTrue(IpLocationDatabase.isInternalIpv6(linkLocal[0], linkLocal[1]));
+        assertFalse(IpLocationDatabase.isInternalIpv6(global[0], global[1]));
+    }
+
+    private static String findIpv4(String ip) {
+        return database.findIpv4(IpLocationDatabase.parseIpv4(ip));
+    }
+
+    private static String findIpv6(String ip) {
+        long[] address = IpLocationDatabase.parseIpv6(ip);
+        return database.findIpv6(address[0], address[1]);
+    }
+
+    private static Path write(String name, String... lines) throws IOException {
+        return Files.write(tempDir.resolve(name), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
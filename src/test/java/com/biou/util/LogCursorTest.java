@@ -0,0 +1,79 @@
+package com.biou.util;
+
+import com.biou.project.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 日志游标编解码测试
+ *
+ * @author Jax
+ * @since 2026-10-18
+ */
+class LogCursorTest {
+
+    @Test
+    void roundTripsTimeAndId() {
+        LocalDateTime time = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123000000);
+        String encoded = new LogCursor(time, 42L).encode();
+
+        assertFalse(encoded.contains("="), encoded);
+        LogCursor decoded = LogCursor.decode(encoded);
+        assertEquals(time, decoded.getTime());
+        assertEquals(Long.valueOf(42L), decoded.getId());
+    }
+
+    @Test
+    void roundTripsWholeMinute() {
+        // LocalDateTime在秒为0时省略秒字段，解析时同样接受
+        LocalDateTime time = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        assertEquals(time, LogCursor.decode(new LogCursor(time, 1L).encode()).getTime());
+    }
+
+    @Test
+    void returnsNullForBlankCursor() {
+        assertNull(LogCursor.decode(null));
+        assertNull(LogCursor.decode(""));
+        assertNull(LogCursor.decode("   "));
+    }
+
+    @Test
+    void rejectsNonBase64Cursor() {
+        assertRejected("not*base64!");
+    }
+
+    @Test
+    void rejectsCursorWithoutSeparator() {
+        assertRejected(encodeRaw("2026-10-18T09:30:15"));
+        assertRejected(encodeRaw("|42"));
+    }
+
+    @Test
+    void rejectsTamperedTime() {
+        assertRejected(encodeRaw("2026-13-40T99:00|42"));
+    }
+
+    @Test
+    void rejectsTamperedId() {
+        assertRejected(encodeRaw("2026-10-18T09:30:15|abc"));
+        assertRejected(encodeRaw("2026-10-18T09:30:15|"));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertRejected(String cursor) {
+        BusinessException exception = assertThrows(BusinessException.class, () -> LogCursor.decode(cursor));
+        assertEquals(400, exception.getCode());
+    }
+}